@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the benchmarks whose names match the arguments (all of them without arguments) with the allocation profiler,
+// which adds the bytes allocated per operation (gc.alloc.rate.norm) to the results
+public final class BenchmarkRunner
+{
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        OptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            options.include(".*Benchmark.*");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+        Options runOptions = options.addProfiler(GCProfiler.class).build();
+        new Runner(runOptions).run();
+    }
+}
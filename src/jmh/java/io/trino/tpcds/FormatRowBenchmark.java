@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Formats rendered rows into the text of the output files
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FormatRowBenchmark
+{
+    private static final int ROWS = 1000;
+
+    @Param({"store_sales", "customer", "inventory"})
+    private String table;
+
+    private final List<List<String>> rows = new ArrayList<>();
+    private Session session;
+
+    @Setup
+    public void setup()
+    {
+        Table generatedTable = Table.getTable(table);
+        session = Session.getDefaultSession().withTable(generatedTable);
+        for (List<List<String>> parentAndChildRows : Results.constructResults(generatedTable, 1, ROWS, session)) {
+            if (!parentAndChildRows.isEmpty() && rows.size() < ROWS) {
+                rows.add(parentAndChildRows.get(0));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void formatRows(Blackhole blackhole)
+    {
+        for (List<String> row : rows) {
+            blackhole.consume(TableGenerator.formatRow(row, session));
+        }
+    }
+}
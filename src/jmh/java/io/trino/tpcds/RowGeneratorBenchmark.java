@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Generates and renders rows of a table, the way TableGenerator does before it formats them. One operation is
+// one row of the generator, which is an order with all of its line items for the sales tables
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RowGeneratorBenchmark
+{
+    private static final int ROWS = 1000;
+
+    @Param({"store_sales", "catalog_sales", "web_sales", "inventory", "customer", "item"})
+    private String table;
+
+    private Table generatedTable;
+    private Session session;
+
+    @Setup
+    public void setup()
+    {
+        generatedTable = Table.getTable(table);
+        session = Session.getDefaultSession().withTable(generatedTable);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generateRows(Blackhole blackhole)
+    {
+        for (List<List<String>> rows : Results.constructResults(generatedTable, 1, ROWS, session)) {
+            blackhole.consume(rows);
+        }
+    }
+}
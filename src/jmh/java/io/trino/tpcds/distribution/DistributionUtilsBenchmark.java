@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.distribution;
+
+import io.trino.tpcds.random.RandomNumberStream;
+import io.trino.tpcds.random.RandomNumberStreamImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Picks weighted values from distributions of the sizes of the real ones, e.g. 5000 names
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DistributionUtilsBenchmark
+{
+    @Param({"10", "100", "5000"})
+    private int size;
+
+    private final List<String> values = new ArrayList<>();
+    private final List<Integer> weights = new ArrayList<>();
+    private final RandomNumberStream stream = new RandomNumberStreamImpl(1, 1);
+
+    @Setup
+    public void setup()
+    {
+        // weights are cumulative, as they are read from the distribution files
+        int weight = 0;
+        for (int i = 0; i < size; i++) {
+            weight += 1 + i % 7;
+            values.add("value" + i);
+            weights.add(weight);
+        }
+    }
+
+    @Benchmark
+    public String pickRandomValue()
+    {
+        return DistributionUtils.pickRandomValue(values, weights, stream);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.type;
+
+import io.trino.tpcds.generator.GeneratorColumn;
+import io.trino.tpcds.random.RandomNumberStream;
+import io.trino.tpcds.random.RandomNumberStreamImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_PRICING;
+import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING;
+import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_PRICING;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PricingBenchmark
+{
+    private static final int VALUES = 1000;
+
+    @Param({"store_sales", "catalog_sales", "web_sales"})
+    private String table;
+
+    private GeneratorColumn column;
+    private RandomNumberStream stream;
+    private final Decimal[] decimals = new Decimal[VALUES];
+
+    @Setup
+    public void setup()
+    {
+        switch (table) {
+            case "store_sales":
+                column = SS_PRICING;
+                break;
+            case "catalog_sales":
+                column = CS_PRICING;
+                break;
+            default:
+                column = WS_PRICING;
+        }
+        stream = new RandomNumberStreamImpl(column.getGlobalColumnNumber(), column.getSeedsPerRow());
+
+        // prices as they are generated, from 0.00 to 30000.00
+        Random random = new Random(1);
+        for (int i = 0; i < VALUES; i++) {
+            decimals[i] = new Decimal(random.nextInt(3000000), 2);
+        }
+    }
+
+    @Benchmark
+    public Pricing generatePricingForSalesTable()
+    {
+        return Pricing.generatePricingForSalesTable(column, stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void decimalToString(Blackhole blackhole)
+    {
+        for (Decimal decimal : decimals) {
+            blackhole.consume(decimal.toString());
+        }
+    }
+}
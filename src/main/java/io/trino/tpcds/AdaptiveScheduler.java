@@ -0,0 +1,197 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+// Runs the table chunks with as many workers as give the most throughput. It starts with one worker per processor,
+// below the ceiling, which is independent of the number of chunks so that I/O bound writes can use more workers than
+// processors, and every interval moves the number of active workers one step, and back when the bytes written per
+// second got worse. After two steps back in a row the number is at the peak and is kept, until the throughput changes a lot,
+// e.g. when the run moves on to other tables. Workers only start or stop between chunks. What a chunk generates is
+// fixed by its row range, so the output does not depend on how many workers ran
+public class AdaptiveScheduler
+{
+    private static final long ADJUST_INTERVAL_MILLIS = 5000;
+    private static final double SIGNIFICANT_CHANGE = 0.05;
+    private static final double PHASE_CHANGE = 0.25;
+
+    private final Queue<Runnable> tasks;
+    private final int maximumWorkers;
+    private final GenerationMetrics metrics;
+    private final AdjustableSemaphore permits;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private int activeWorkers;
+
+    // the tasks are run in their order, by up to maximumWorkers threads at once
+    public AdaptiveScheduler(List<Runnable> tasks, int maximumWorkers, GenerationMetrics metrics)
+    {
+        checkArgument(maximumWorkers > 0, "maximumWorkers must be positive: %s", maximumWorkers);
+        this.tasks = new ConcurrentLinkedQueue<>(tasks);
+        // more workers than tasks would never run
+        this.maximumWorkers = Math.max(1, Math.min(maximumWorkers, tasks.size()));
+        this.metrics = metrics;
+        this.activeWorkers = Math.min(this.maximumWorkers, Runtime.getRuntime().availableProcessors());
+        this.permits = new AdjustableSemaphore(activeWorkers);
+    }
+
+    // runs all of the tasks, and throws the failure of the first one that failed
+    public void run()
+    {
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < maximumWorkers; i++) {
+            Thread worker = new Thread(this::runTasks, "tpcds-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        try {
+            adjustWorkers(workers);
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TpcdsException("Interrupted while waiting for the generator threads");
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void runTasks()
+    {
+        while (failure.get() == null) {
+            try {
+                permits.acquire();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                // another chunk may have failed while waiting for the permit
+                if (failure.get() != null) {
+                    return;
+                }
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    return;
+                }
+                task.run();
+            }
+            catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+            finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void adjustWorkers(List<Thread> workers)
+            throws InterruptedException
+    {
+        int direction = 1;
+        int reversals = 0;
+        boolean settled = false;
+        double lastThroughput = 0;
+        long lastBytes = metrics.getBytesWritten();
+        long lastRows = metrics.getRowsWritten();
+        long lastNanos = System.nanoTime();
+        while (!tasks.isEmpty() && failure.get() == null && workers.stream().anyMatch(Thread::isAlive)) {
+            Thread.sleep(ADJUST_INTERVAL_MILLIS);
+            long bytes = metrics.getBytesWritten();
+            long rows = metrics.getRowsWritten();
+            long nanos = System.nanoTime();
+            double seconds = (nanos - lastNanos) / 1_000_000_000.0;
+            double throughput = (bytes - lastBytes) / seconds;
+            double rowsPerSecond = (rows - lastRows) / seconds;
+            lastBytes = bytes;
+            lastRows = rows;
+            lastNanos = nanos;
+
+            int workersBefore = activeWorkers;
+            if (settled) {
+                if (Math.abs(throughput - lastThroughput) > lastThroughput * PHASE_CHANGE) {
+                    // a different mix of tables, whose peak may be elsewhere
+                    settled = false;
+                    reversals = 0;
+                }
+            }
+            else if (lastThroughput > 0 && throughput < lastThroughput * (1 - SIGNIFICANT_CHANGE)) {
+                direction = -direction;
+                reversals++;
+                settled = reversals >= 2;
+                setActiveWorkers(activeWorkers + direction);
+            }
+            else {
+                reversals = 0;
+                setActiveWorkers(activeWorkers + direction);
+                if (activeWorkers == workersBefore) {
+                    // at a bound, so try the other way next time
+                    direction = -direction;
+                }
+            }
+            System.out.println(format("%d workers, %.1f MB/s, %.0f rows/s (%.0f per worker), flush p99 %d us%s",
+                    workersBefore,
+                    throughput / (1024 * 1024),
+                    rowsPerSecond,
+                    rowsPerSecond / workersBefore,
+                    metrics.getMaximumFlushLatencyP99Micros(),
+                    activeWorkers != workersBefore ? format(", now %d workers", activeWorkers) : settled ? ", settled" : ""));
+            lastThroughput = throughput;
+        }
+    }
+
+    private void setActiveWorkers(int workers)
+    {
+        workers = Math.max(1, Math.min(maximumWorkers, workers));
+        if (workers > activeWorkers) {
+            permits.release(workers - activeWorkers);
+        }
+        else if (workers < activeWorkers) {
+            // a worker that is running a chunk finishes it first
+            permits.reducePermits(activeWorkers - workers);
+        }
+        activeWorkers = workers;
+    }
+
+    private static class AdjustableSemaphore
+            extends Semaphore
+    {
+        private static final long serialVersionUID = 1L;
+
+        private AdjustableSemaphore(int permits)
+        {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction)
+        {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+// Summarizes a run whose output was discarded: how fast each table is generated and encoded, without disk or HDFS
+public class BenchmarkReport
+{
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private final List<TableOutput> outputs;
+    private final long elapsedNanos;
+    private final int threads;
+
+    public BenchmarkReport(List<TableOutput> outputs, long elapsedNanos, int threads)
+    {
+        this.outputs = outputs;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    // The rates of a table are per thread, over the CPU time spent on the table. The total line is over the
+    // elapsed time of the run, with all of its threads
+    @Override
+    public String toString()
+    {
+        Map<Table, TableTotal> totals = new EnumMap<>(Table.class);
+        for (TableOutput output : outputs) {
+            TableTotal total = totals.computeIfAbsent(output.getTable(), table -> new TableTotal());
+            total.rowCount += output.getRowCount();
+            total.byteCount += output.getByteCount();
+            total.generationCpuNanos += output.getCpuNanos() - output.getEncodingCpuNanos();
+            total.encodingCpuNanos += output.getEncodingCpuNanos();
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(format("%-24s %12s %14s %12s %10s %14s %14s%n", "table", "rows", "bytes", "rows/s", "MB/s", "generate cpu s", "encode cpu s"));
+        long totalRows = 0;
+        long totalBytes = 0;
+        long totalGenerationNanos = 0;
+        long totalEncodingNanos = 0;
+        for (Map.Entry<Table, TableTotal> entry : totals.entrySet()) {
+            TableTotal total = entry.getValue();
+            double cpuSeconds = Math.max(1, total.generationCpuNanos + total.encodingCpuNanos) / NANOS_PER_SECOND;
+            report.append(format("%-24s %12d %14d %12.0f %10.1f %14.2f %14.2f%n",
+                    entry.getKey().getName(),
+                    total.rowCount,
+                    total.byteCount,
+                    total.rowCount / cpuSeconds,
+                    total.byteCount / BYTES_PER_MB / cpuSeconds,
+                    total.generationCpuNanos / NANOS_PER_SECOND,
+                    total.encodingCpuNanos / NANOS_PER_SECOND));
+            totalRows += total.rowCount;
+            totalBytes += total.byteCount;
+            totalGenerationNanos += total.generationCpuNanos;
+            totalEncodingNanos += total.encodingCpuNanos;
+        }
+        double elapsedSeconds = Math.max(1, elapsedNanos) / NANOS_PER_SECOND;
+        report.append(format("%-24s %12d %14d %12.0f %10.1f %14.2f %14.2f%n",
+                "total",
+                totalRows,
+                totalBytes,
+                totalRows / elapsedSeconds,
+                totalBytes / BYTES_PER_MB / elapsedSeconds,
+                totalGenerationNanos / NANOS_PER_SECOND,
+                totalEncodingNanos / NANOS_PER_SECOND));
+        report.append(format("%.1f s elapsed with %d threads%n", elapsedSeconds, threads));
+        return report.toString();
+    }
+
+    private static class TableTotal
+    {
+        private long rowCount;
+        private long byteCount;
+        private long generationCpuNanos;
+        private long encodingCpuNanos;
+    }
+}
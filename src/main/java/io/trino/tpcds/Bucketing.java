@@ -0,0 +1,268 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.column.ColumnType.Base.IDENTIFIER;
+import static io.trino.tpcds.column.ColumnType.Base.INTEGER;
+import static io.trino.tpcds.column.ColumnType.Base.VARCHAR;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Assigns the rows of a table to buckets by the hash of one column, given on the command line as table:column:N.
+// The hash is computed the way the engine that reads the buckets computes it. Spark can create a bucketed table over
+// the files directly. Hive also needs exactly one file per bucket, so only over the files of a run with a parallelism
+// of 1, or after the files of each bucket are merged. Identifier columns are hashed as BIGINT, integer columns as INT
+// and varchar columns as STRING.
+public final class Bucketing
+{
+    public enum HashFunction
+    {
+        // ObjectInspectorUtils.hashCode and bucketing_version 1
+        HIVE
+        {
+            @Override
+            int hashNull()
+            {
+                return 0;
+            }
+
+            @Override
+            int hashInt(int value)
+            {
+                return value;
+            }
+
+            @Override
+            int hashLong(long value)
+            {
+                return (int) ((value >>> 32) ^ value);
+            }
+
+            @Override
+            int hashBytes(byte[] bytes)
+            {
+                int hash = 1;
+                for (byte b : bytes) {
+                    hash = (31 * hash) + b;
+                }
+                return hash;
+            }
+
+            @Override
+            int getBucket(int hash, int bucketCount)
+            {
+                return (hash & Integer.MAX_VALUE) % bucketCount;
+            }
+        },
+        // Murmur3Hash with seed 42 and pmod, as used by DataFrameWriter.bucketBy
+        SPARK
+        {
+            private static final int SEED = 42;
+
+            @Override
+            int hashNull()
+            {
+                return SEED;
+            }
+
+            @Override
+            int hashInt(int value)
+            {
+                return fmix(mixH1(SEED, mixK1(value)), 4);
+            }
+
+            @Override
+            int hashLong(long value)
+            {
+                int h1 = mixH1(SEED, mixK1((int) value));
+                h1 = mixH1(h1, mixK1((int) (value >>> 32)));
+                return fmix(h1, 8);
+            }
+
+            @Override
+            int hashBytes(byte[] bytes)
+            {
+                // Murmur3_x86_32.hashUnsafeBytes: whole little-endian ints, then each remaining byte on its own
+                int h1 = SEED;
+                int aligned = bytes.length - bytes.length % 4;
+                for (int i = 0; i < aligned; i += 4) {
+                    int word = (bytes[i] & 0xff) | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff) << 16 | (bytes[i + 3] & 0xff) << 24;
+                    h1 = mixH1(h1, mixK1(word));
+                }
+                for (int i = aligned; i < bytes.length; i++) {
+                    h1 = mixH1(h1, mixK1(bytes[i]));
+                }
+                return fmix(h1, bytes.length);
+            }
+
+            @Override
+            int getBucket(int hash, int bucketCount)
+            {
+                int bucket = hash % bucketCount;
+                return bucket < 0 ? bucket + bucketCount : bucket;
+            }
+        };
+
+        abstract int hashNull();
+
+        abstract int hashInt(int value);
+
+        abstract int hashLong(long value);
+
+        abstract int hashBytes(byte[] bytes);
+
+        abstract int getBucket(int hash, int bucketCount);
+
+        public static HashFunction parseHashFunction(String hashFunction)
+        {
+            try {
+                return valueOf(hashFunction.toUpperCase());
+            }
+            catch (IllegalArgumentException e) {
+                throw new InvalidOptionException("bucket-hash", hashFunction, "Expected hive or spark");
+            }
+        }
+
+        private static int mixK1(int k1)
+        {
+            k1 *= 0xcc9e2d51;
+            k1 = Integer.rotateLeft(k1, 15);
+            k1 *= 0x1b873593;
+            return k1;
+        }
+
+        private static int mixH1(int h1, int k1)
+        {
+            h1 ^= k1;
+            h1 = Integer.rotateLeft(h1, 13);
+            h1 = h1 * 5 + 0xe6546b64;
+            return h1;
+        }
+
+        private static int fmix(int h1, int length)
+        {
+            h1 ^= length;
+            h1 ^= h1 >>> 16;
+            h1 *= 0x85ebca6b;
+            h1 ^= h1 >>> 13;
+            h1 *= 0xc2b2ae35;
+            h1 ^= h1 >>> 16;
+            return h1;
+        }
+    }
+
+    private static final Set<ColumnType.Base> SUPPORTED_TYPES = EnumSet.of(IDENTIFIER, INTEGER, VARCHAR);
+
+    private final Column column;
+    private final int bucketCount;
+    private final HashFunction hashFunction;
+
+    public Bucketing(Column column, int bucketCount, HashFunction hashFunction)
+    {
+        checkArgument(bucketCount > 0, "bucketCount must be positive");
+        checkArgument(SUPPORTED_TYPES.contains(column.getType().getBase()), "cannot bucket by a %s column", column.getType().getBase());
+        this.column = column;
+        this.bucketCount = bucketCount;
+        this.hashFunction = hashFunction;
+    }
+
+    public static Bucketing parseBucketing(String bucketing, HashFunction hashFunction)
+    {
+        String[] parts = bucketing.split(":");
+        if (parts.length != 3) {
+            throw new InvalidOptionException("bucket-by", bucketing, "Expected <table>:<column>:<number of buckets>");
+        }
+
+        Table table = Session.toTableOptional(parts[0].trim()).get();
+        Column column;
+        try {
+            column = table.getColumn(parts[1].trim());
+        }
+        catch (IllegalStateException e) {
+            throw new InvalidOptionException("bucket-by", bucketing, format("%s is not a column of %s", parts[1], table.getName()));
+        }
+        if (!SUPPORTED_TYPES.contains(column.getType().getBase())) {
+            throw new InvalidOptionException("bucket-by", bucketing, "Only identifier, integer and varchar columns can be bucketed by");
+        }
+
+        int bucketCount;
+        try {
+            bucketCount = parseInt(parts[2].trim());
+        }
+        catch (NumberFormatException e) {
+            throw new InvalidOptionException("bucket-by", bucketing, format("%s is not a number of buckets", parts[2]));
+        }
+        if (bucketCount <= 0) {
+            throw new InvalidOptionException("bucket-by", bucketing, "The number of buckets must be positive");
+        }
+        return new Bucketing(column, bucketCount, hashFunction);
+    }
+
+    public Table getTable()
+    {
+        return column.getTable();
+    }
+
+    public Column getColumn()
+    {
+        return column;
+    }
+
+    public int getBucketCount()
+    {
+        return bucketCount;
+    }
+
+    public HashFunction getHashFunction()
+    {
+        return hashFunction;
+    }
+
+    // returns the bucket of a value as it is rendered by TableRow.getValues
+    public int getBucket(String value)
+    {
+        return hashFunction.getBucket(hash(value), bucketCount);
+    }
+
+    private int hash(String value)
+    {
+        if (value == null) {
+            return hashFunction.hashNull();
+        }
+        switch (column.getType().getBase()) {
+            case IDENTIFIER:
+                return hashFunction.hashLong(parseLong(value));
+            case INTEGER:
+                return hashFunction.hashInt(parseInt(value));
+            default:
+                return hashFunction.hashBytes(value.getBytes(UTF_8));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return format("%s:%s:%d", column.getTable().getName(), column.getName(), bucketCount);
+    }
+}
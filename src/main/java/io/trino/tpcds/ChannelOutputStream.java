@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static java.util.Objects.requireNonNull;
+
+// Writes to a FileChannel through a direct buffer, which the channel writes from without copying it. A write that
+// does not fit in the buffer is written along with the buffer in a single gathering write, instead of being copied
+public class ChannelOutputStream
+        extends OutputStream
+{
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    public ChannelOutputStream(FileChannel channel, int bufferSize)
+    {
+        this.channel = requireNonNull(channel, "channel is null");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    @Override
+    public void write(int b)
+            throws IOException
+    {
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length)
+            throws IOException
+    {
+        checkPositionIndexes(offset, offset + length, bytes.length);
+        if (length <= buffer.remaining()) {
+            buffer.put(bytes, offset, length);
+            return;
+        }
+        if (length < buffer.capacity()) {
+            flushBuffer();
+            buffer.put(bytes, offset, length);
+            return;
+        }
+        buffer.flip();
+        writeFully(buffer, ByteBuffer.wrap(bytes, offset, length));
+        buffer.clear();
+    }
+
+    private void flushBuffer()
+            throws IOException
+    {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer... buffers)
+            throws IOException
+    {
+        ByteBuffer last = buffers[buffers.length - 1];
+        while (last.hasRemaining()) {
+            channel.write(buffers);
+        }
+    }
+
+    @Override
+    public void flush()
+            throws IOException
+    {
+        flushBuffer();
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flushBuffer();
+        }
+        finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+// The progress of one table chunk. It is updated by the thread generating the chunk and read by the progress report
+// and JMX. The counters only have one writer, so they are set with lazySet, which costs no more than a plain store
+public class ChunkMetrics
+        implements ChunkMetricsMBean
+{
+    private final Table table;
+    private final int chunk;
+    private final long totalRows;
+    private final double bytesPerRow;
+    private final AtomicLong rowsGenerated = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    // totalRows are the rows of the generator, and bytesPerRow their estimated size, which weighs the chunks
+    // for the progress of the whole run. A child table generated with its parent has no rows of its own
+    public ChunkMetrics(Table table, int chunk, long totalRows, double bytesPerRow)
+    {
+        this.table = requireNonNull(table, "table is null");
+        this.chunk = chunk;
+        this.totalRows = totalRows;
+        this.bytesPerRow = bytesPerRow;
+    }
+
+    public void start()
+    {
+        startNanos = System.nanoTime();
+    }
+
+    public void complete()
+    {
+        rowsGenerated.lazySet(totalRows);
+        endNanos = System.nanoTime();
+    }
+
+    public void setRowsGenerated(long rows)
+    {
+        rowsGenerated.lazySet(rows);
+    }
+
+    public void setWritten(long rows, long bytes)
+    {
+        rowsWritten.lazySet(rows);
+        bytesWritten.lazySet(bytes);
+    }
+
+    public void recordFlush(long nanos)
+    {
+        flushLatency.record(nanos);
+    }
+
+    public boolean isStarted()
+    {
+        return startNanos != 0;
+    }
+
+    // the estimated bytes of the chunk, done and in total
+    public double getWeightedRowsGenerated()
+    {
+        return rowsGenerated.get() * bytesPerRow;
+    }
+
+    public double getWeightedTotalRows()
+    {
+        return totalRows * bytesPerRow;
+    }
+
+    @Override
+    public String getTable()
+    {
+        return table.getName();
+    }
+
+    @Override
+    public int getChunk()
+    {
+        return chunk;
+    }
+
+    @Override
+    public long getTotalRows()
+    {
+        return totalRows;
+    }
+
+    @Override
+    public long getRowsGenerated()
+    {
+        return rowsGenerated.get();
+    }
+
+    @Override
+    public long getRowsWritten()
+    {
+        return rowsWritten.get();
+    }
+
+    @Override
+    public long getBytesWritten()
+    {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public double getRowsPerSecond()
+    {
+        long start = startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return rowsWritten.get() * 1_000_000_000.0 / Math.max(1, end - start);
+    }
+
+    @Override
+    public boolean isComplete()
+    {
+        return endNanos != 0;
+    }
+
+    @Override
+    public long getFlushCount()
+    {
+        return flushLatency.getCount();
+    }
+
+    @Override
+    public long getFlushLatencyP50Micros()
+    {
+        return flushLatency.getPercentileMicros(50);
+    }
+
+    @Override
+    public long getFlushLatencyP99Micros()
+    {
+        return flushLatency.getPercentileMicros(99);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import io.trino.tpcds.type.Date;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.type.Date.fromJulianDays;
+import static io.trino.tpcds.type.Date.toJulianDays;
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+
+// An inclusive range of dates, given on the command line as yyyy-mm-dd:yyyy-mm-dd
+public final class DateRange
+{
+    private final int startJulianDate;
+    private final int endJulianDate;
+
+    public DateRange(int startJulianDate, int endJulianDate)
+    {
+        checkArgument(startJulianDate <= endJulianDate, "start date is after end date");
+        this.startJulianDate = startJulianDate;
+        this.endJulianDate = endJulianDate;
+    }
+
+    public static DateRange parseDateRange(String dateRange)
+    {
+        String[] dates = dateRange.split(":");
+        if (dates.length != 2) {
+            throw new InvalidOptionException("date-range", dateRange, "Expected <start>:<end>, e.g. 2000-01-01:2000-03-31");
+        }
+
+        int start = parseJulianDate(dateRange, dates[0]);
+        int end = parseJulianDate(dateRange, dates[1]);
+        if (start > end) {
+            throw new InvalidOptionException("date-range", dateRange, "The start date is after the end date");
+        }
+        return new DateRange(start, end);
+    }
+
+    private static int parseJulianDate(String dateRange, String date)
+    {
+        String[] parts = date.trim().split("-");
+        if (parts.length != 3) {
+            throw new InvalidOptionException("date-range", dateRange, format("%s is not a yyyy-mm-dd date", date));
+        }
+        try {
+            return toJulianDays(new Date(parseInt(parts[0]), parseInt(parts[1]), parseInt(parts[2])));
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("date-range", dateRange, format("%s is not a valid date", date));
+        }
+    }
+
+    public int getStartJulianDate()
+    {
+        return startJulianDate;
+    }
+
+    public int getEndJulianDate()
+    {
+        return endJulianDate;
+    }
+
+    @Override
+    public String toString()
+    {
+        return fromJulianDays(startJulianDate) + ":" + fromJulianDays(endJulianDate);
+    }
+}
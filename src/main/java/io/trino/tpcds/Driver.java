@@ -14,11 +14,24 @@
 
 package io.trino.tpcds;
 
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.row.generator.ColumnProfiler;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public class Driver
 {
     public static void usage()
@@ -27,13 +40,168 @@ public class Driver
         System.out.println("         OutPath:  root directory of location to create data in. default is local directory");
         System.out.println("         Scale  :  scaleFactor defines the size of the dataset to generate (in GB). default is 1");
         System.out.println("         Thread :  the parallel thread count for generate data. default is scale.");
-
+        System.out.println("options: --table <name>         generate only this table");
+        System.out.println("         --columns <c1,c2,...>  render only these columns of the table given by --table");
+        System.out.println("         --date-range <from:to> generate only the rows of these dates (yyyy-mm-dd:yyyy-mm-dd) of the table");
+        System.out.println("                                given by --table. Supported for catalog_sales and inventory");
+        System.out.println("         --partitioned          write the fact tables into Hive-style <date column>=<value> directories");
+        System.out.println("         --bucket-by <table:column:N>  write the table into N bucket files by the hash of the column. May be repeated");
+        System.out.println("         --bucket-hash <hive|spark>    the bucketing hash to be compatible with. default is hive. Hive needs");
+        System.out.println("                                one file per bucket, which only a ThreadNumber of 1 writes");
+        System.out.println("         --sort-by <table:c1,c2,...>   write every file of the table sorted by these columns. May be repeated");
+        System.out.println("         --sort-memory <MB>     memory for sorting per thread before spilling to disk. default is 256");
+        System.out.println("         --sort-spill-dir <dir> the directory of the sorted runs spilled to disk. default is java.io.tmpdir");
+        System.out.println("         --node-count <N>       the number of machines the generation is spread over. ThreadNumber must be given");
+        System.out.println("         --node-index <i>       which of the machines (1..N) this is. It generates chunks (i-1)*Thread+1..i*Thread");
+        System.out.println("                                of N*Thread, and writes _manifest_node_<i>_of_<N>.json listing them");
+        System.out.println("         --resume               skip the chunks that _generation_manifest.json lists as complete, which a");
+        System.out.println("                                run with the same options and parallelism writes as it goes");
+        System.out.println("         --verify <report>      generate without writing any files, and compare the row hashes with those of");
+        System.out.println("                                the _hash_report.json of an earlier run. May be repeated, e.g. once per node");
+        System.out.println("         --benchmark            generate and encode without writing any files, and print the rows/s, bytes/s");
+        System.out.println("                                and the CPU time of generation and of encoding of each table");
+        System.out.println("         --profile-columns      attribute the time and the random number draws of the row generators to their");
+        System.out.println("                                columns, and print the columns of each table by cost at the end");
+        System.out.println("         --adaptive             split the tables into ThreadNumber chunks, and run them with as many threads,");
+        System.out.println("                                up to --max-threads, as give the most bytes written per second");
+        System.out.println("         --max-threads <N>      with --adaptive, the most threads to run at once. default is 4 per processor,");
+        System.out.println("                                and at least ThreadNumber");
+        System.out.println("         --plan                 generate nothing, and print per table the rows, the bytes and the chunks, and");
+        System.out.println("                                the time of the run, calibrated on this machine, as a table and as JSON");
+        System.out.println("         --sink <stream|channel|mmap>  how local table files are written: FileOutputStream, a FileChannel");
+        System.out.println("                                with a direct buffer, or memory-mapped windows of a file sized to its");
+        System.out.println("                                predicted length and truncated on close. Partition and bucket files are");
+        System.out.println("                                always streams. default is stream");
+        System.out.println("         --pipeline <E>,<W>     generate in the ThreadNumber threads, and encode and write the unpartitioned");
+        System.out.println("                                tables in E encoder and W writer threads, through bounded queues");
+        System.out.println("         --progress-interval <seconds>  print the progress and the ETA this often. default is 60, 0 disables");
+        System.out.println("                                The progress of every chunk is also published over JMX under io.trino.tpcds");
     }
-    public static void main(String[] args) {
+    public static void main(String[] commandLine) {
         String m_OutPutPath = "";
         int m_Scale = 1;
         int m_Thread = -1;
+        Optional<Table> m_Table = Optional.empty();
+        String m_Columns = null;
+        Optional<DateRange> m_DateRange = Optional.empty();
+        boolean m_Partitioned = false;
+        List<String> m_BucketBy = new ArrayList<>();
+        Bucketing.HashFunction m_BucketHash = Bucketing.HashFunction.HIVE;
+        List<String> m_SortBy = new ArrayList<>();
+        long m_SortMemory = 256;
+        Optional<File> m_SortSpillDirectory = Optional.empty();
+        int m_NodeCount = 1;
+        int m_NodeIndex = 1;
+        boolean m_Resume = false;
+        boolean m_Benchmark = false;
+        boolean m_ProfileColumns = false;
+        boolean m_Plan = false;
+        boolean m_Adaptive = false;
+        int m_MaxThreads = -1;
+        long m_ProgressInterval = 60;
+        Optional<RowPipeline> m_Pipeline = Optional.empty();
+        FileSink m_FileSink = FileSink.STREAM;
+        List<String> m_VerifyReports = new ArrayList<>();
 
+        // 可选参数以--开头，其余的为位置参数
+        List<String> positionalArgs = new ArrayList<>();
+        for (int i = 0; i < commandLine.length; i++) {
+            String arg = commandLine[i];
+            if (!arg.startsWith("--")) {
+                positionalArgs.add(arg);
+                continue;
+            }
+            // 不带值的开关参数
+            if (arg.equals("--partitioned")) {
+                m_Partitioned = true;
+                continue;
+            }
+            if (arg.equals("--resume")) {
+                m_Resume = true;
+                continue;
+            }
+            if (arg.equals("--benchmark")) {
+                m_Benchmark = true;
+                continue;
+            }
+            if (arg.equals("--adaptive")) {
+                m_Adaptive = true;
+                continue;
+            }
+            if (arg.equals("--plan")) {
+                m_Plan = true;
+                continue;
+            }
+            if (arg.equals("--profile-columns")) {
+                m_ProfileColumns = true;
+                continue;
+            }
+            if (i + 1 >= commandLine.length) {
+                usage();
+                System.exit(0);
+            }
+            String value = commandLine[++i].trim();
+            switch (arg) {
+                case "--table":
+                    m_Table = Session.toTableOptional(value);
+                    break;
+                case "--columns":
+                    m_Columns = value;
+                    break;
+                case "--date-range":
+                    m_DateRange = Optional.of(DateRange.parseDateRange(value));
+                    break;
+                case "--bucket-by":
+                    m_BucketBy.add(value);
+                    break;
+                case "--bucket-hash":
+                    m_BucketHash = Bucketing.HashFunction.parseHashFunction(value);
+                    break;
+                case "--sort-by":
+                    m_SortBy.add(value);
+                    break;
+                case "--sort-memory":
+                    if (!StringUtils.isNumeric(value) || Long.parseLong(value) == 0) {
+                        throw new InvalidOptionException("sort-memory", value, "Expected a number of megabytes");
+                    }
+                    m_SortMemory = Long.parseLong(value);
+                    break;
+                case "--sort-spill-dir":
+                    if (!new File(value).isDirectory()) {
+                        throw new InvalidOptionException("sort-spill-dir", value, "Expected an existing directory");
+                    }
+                    m_SortSpillDirectory = Optional.of(new File(value));
+                    break;
+                case "--max-threads":
+                    m_MaxThreads = parsePositiveInt("max-threads", value);
+                    break;
+                case "--node-count":
+                    m_NodeCount = parsePositiveInt("node-count", value);
+                    break;
+                case "--node-index":
+                    m_NodeIndex = parsePositiveInt("node-index", value);
+                    break;
+                case "--verify":
+                    m_VerifyReports.add(value);
+                    break;
+                case "--sink":
+                    m_FileSink = FileSink.parseFileSink(value);
+                    break;
+                case "--pipeline":
+                    m_Pipeline = Optional.of(RowPipeline.parseRowPipeline(value));
+                    break;
+                case "--progress-interval":
+                    if (!StringUtils.isNumeric(value)) {
+                        throw new InvalidOptionException("progress-interval", value, "Expected a number of seconds");
+                    }
+                    m_ProgressInterval = Long.parseLong(value);
+                    break;
+                default:
+                    usage();
+                    System.exit(0);
+            }
+        }
+        String[] args = positionalArgs.toArray(new String[0]);
 
         // 程序参数 path,Scale,[Thread]
         if (args.length == 1) {
@@ -61,6 +229,14 @@ public class Driver
             }
         }
 
+        if (m_NodeIndex > m_NodeCount) {
+            throw new InvalidOptionException("node-index", Integer.toString(m_NodeIndex), format("Must be between 1 and the node count %d", m_NodeCount));
+        }
+        // 多节点时每个节点的线程数必须相同，否则各节点的分片不一致
+        if (m_NodeCount > 1 && m_Thread == -1) {
+            throw new InvalidOptionException("node-count", Integer.toString(m_NodeCount), "ThreadNumber must be given, and be the same on every node");
+        }
+
         if (m_Thread == -1)
         {
             m_Thread = m_Scale;
@@ -69,30 +245,327 @@ public class Driver
             }
         }
 
+        if (m_MaxThreads != -1 && !m_Adaptive) {
+            throw new InvalidOptionException("max-threads", Integer.toString(m_MaxThreads), "Only used with --adaptive");
+        }
+        // 写入受I/O限制时线程数可以多于处理器数，上限与分片数无关
+        if (m_MaxThreads == -1) {
+            m_MaxThreads = Math.max(m_Thread, 4 * Runtime.getRuntime().availableProcessors());
+        }
+
+        Optional<List<Column>> m_ProjectedColumns = Optional.empty();
+        if (m_Columns != null) {
+            if (!m_Table.isPresent()) {
+                throw new InvalidOptionException("columns", m_Columns, "A table must be given with --table");
+            }
+            m_ProjectedColumns = Optional.of(parseColumns(m_Table.get(), m_Columns));
+        }
+        if (m_DateRange.isPresent()) {
+            if (!m_Table.isPresent()) {
+                throw new InvalidOptionException("date-range", m_DateRange.get().toString(), "A table must be given with --table");
+            }
+            // 检查表是否按日期顺序生成
+            Parallel.getRowsForDateRange(m_Table.get(), m_DateRange.get(), new Scaling(m_Scale));
+        }
+
+        ImmutableList.Builder<Bucketing> m_Bucketing = ImmutableList.builder();
+        for (String bucketBy : m_BucketBy) {
+            m_Bucketing.add(Bucketing.parseBucketing(bucketBy, m_BucketHash));
+        }
+        List<Bucketing> m_TableBucketing = m_Bucketing.build();
+        ImmutableList.Builder<Sorting> m_Sorting = ImmutableList.builder();
+        for (String sortBy : m_SortBy) {
+            m_Sorting.add(Sorting.parseSorting(sortBy, m_SortMemory * 1024 * 1024, m_SortSpillDirectory));
+        }
+        List<Sorting> m_TableSorting = m_Sorting.build();
+
         List<Table> tablesToGenerate;
-        tablesToGenerate = Table.getBaseTables();
-
-        for (int i = 1; i <= m_Thread; i++) {
-            int         chunkNumber = i;
-            int         finalM_Scale = m_Scale;
-            String      finalM_OutPutPath = m_OutPutPath;
-            int finalM_Thread = m_Thread;
-            new Thread(() -> {
-                Session m_JobSession = new Session(
-                        finalM_Scale,
-                        finalM_OutPutPath,
-                        ".csv",
-                        Optional.empty(),
-                        "",
-                        '|',
-                        false,
-                        false,
-                        finalM_Thread,
-                        chunkNumber,
-                        true);
-                TableGenerator tableGenerator = new TableGenerator(m_JobSession, false);
-                tablesToGenerate.forEach(tableGenerator::generateTable);
-            }).start();
+        tablesToGenerate = m_Table.isPresent() ? ImmutableList.of(m_Table.get()) : Table.getBaseTables();
+
+        // 所有节点共 m_NodeCount * m_Thread 个分片，本节点生成其中连续的 m_Thread 个
+        int m_Parallelism = m_NodeCount * m_Thread;
+        int m_FirstChunk = (m_NodeIndex - 1) * m_Thread + 1;
+        Session m_BaseSession = new Session(
+                m_Scale,
+                m_OutPutPath,
+                ".csv",
+                m_Table,
+                "",
+                '|',
+                false,
+                false,
+                m_Parallelism,
+                true)
+                .withPartitioned(m_Partitioned)
+                .withBucketing(m_TableBucketing)
+                .withSorting(m_TableSorting)
+                .withFileSink(m_FileSink);
+        if (m_ProjectedColumns.isPresent()) {
+            m_BaseSession = m_BaseSession.withColumns(m_ProjectedColumns.get());
+        }
+        if (m_DateRange.isPresent()) {
+            m_BaseSession = m_BaseSession.withDateRange(m_DateRange.get());
+        }
+        List<Session> m_JobSessions = new ArrayList<>();
+        for (int i = 0; i < m_Thread; i++) {
+            m_JobSessions.add(m_BaseSession.withChunkNumber(m_FirstChunk + i));
+        }
+
+        // 只估算各表的行数、大小、分片和耗时，不生成数据
+        if (m_Plan) {
+            GenerationPlan m_GenerationPlan = GenerationPlan.create(m_JobSessions.get(0), tablesToGenerate, m_Thread);
+            System.out.print(m_GenerationPlan);
+            System.out.println();
+            System.out.print(m_GenerationPlan.toJson());
+            return;
+        }
+
+        // 校验和基准测试模式下只生成数据并计算哈希，不写任何文件
+        boolean m_Verify = !m_VerifyReports.isEmpty();
+        boolean m_DiscardOutput = m_Verify || m_Benchmark;
+        HashReport m_ExpectedReport = null;
+        if (m_Verify) {
+            List<String> m_Reports = new ArrayList<>();
+            for (String m_VerifyReport : m_VerifyReports) {
+                try {
+                    m_Reports.add(new String(Files.readAllBytes(Paths.get(m_VerifyReport)), UTF_8));
+                }
+                catch (IOException e) {
+                    throw new InvalidOptionException("verify", m_VerifyReport, e.getMessage());
+                }
+            }
+            m_ExpectedReport = HashReport.parse(m_Reports);
+        }
+
+        // 每个表的分片完成后记录到清单中，重新运行时跳过已完成的分片
+        Session m_FirstSession = m_JobSessions.get(0);
+        String m_NodeSuffix = m_NodeCount > 1 ? format("_node_%d_of_%d", m_NodeIndex, m_NodeCount) : "";
+        Optional<GenerationManifest> m_Manifest = Optional.empty();
+        if (!m_DiscardOutput) {
+            m_Manifest = Optional.of(GenerationManifest.open(
+                    new TableGenerator(m_FirstSession, false),
+                    "_generation_manifest" + m_NodeSuffix + ".json",
+                    m_FirstSession.getCommandLineArguments(),
+                    m_Parallelism,
+                    m_Resume));
+        }
+        Optional<GenerationManifest> m_JobManifest = m_Manifest;
+        List<TableOutput> m_Outputs = Collections.synchronizedList(new ArrayList<>());
+
+        // 预先登记所有待生成的分片，进度和剩余时间按全部分片计算
+        GenerationMetrics m_Metrics = new GenerationMetrics();
+        for (Session m_JobSession : m_JobSessions) {
+            for (Table table : tablesToGenerate) {
+                if (!m_JobManifest.isPresent() || !m_JobManifest.get().isComplete(table, m_JobSession.getChunkNumber())) {
+                    m_Metrics.getChunk(table, m_JobSession);
+                }
+            }
+        }
+        m_Pipeline.ifPresent(m_Metrics::setPipeline);
+        m_Metrics.registerMBeans();
+        if (m_ProfileColumns) {
+            ColumnProfiler.enable();
+        }
+
+        Optional<RowPipeline> m_JobPipeline = m_Pipeline;
+        long m_StartNanos = System.nanoTime();
+        List<Thread> m_Threads = new ArrayList<>();
+        List<Throwable> m_Failures = Collections.synchronizedList(new ArrayList<>());
+        Optional<AdaptiveScheduler> m_Scheduler = Optional.empty();
+        if (m_Adaptive) {
+            // 分片固定，根据吞吐量调整同时运行的线程数。大表的分片先运行
+            List<Runnable> m_Tasks = new ArrayList<>();
+            List<Table> m_TablesBySize = new ArrayList<>(tablesToGenerate);
+            m_TablesBySize.sort(Comparator.comparingLong((Table table) -> SizeEstimates.estimateBytesWithChild(table, m_FirstSession.getScaling())).reversed());
+            for (Table table : m_TablesBySize) {
+                for (Session m_JobSession : m_JobSessions) {
+                    if (m_JobManifest.isPresent() && m_JobManifest.get().isComplete(table, m_JobSession.getChunkNumber())) {
+                        continue;
+                    }
+                    m_Tasks.add(() -> {
+                        List<TableOutput> outputs = new TableGenerator(m_JobSession, false, m_DiscardOutput, m_Metrics, m_JobPipeline).generateTable(table);
+                        m_JobManifest.ifPresent(manifest -> manifest.complete(outputs));
+                        m_Outputs.addAll(outputs);
+                    });
+                }
+            }
+            m_Scheduler = Optional.of(new AdaptiveScheduler(m_Tasks, m_MaxThreads, m_Metrics));
+        }
+        else {
+            for (Session m_JobSession : m_JobSessions) {
+                Thread m_Worker = new Thread(() -> {
+                    TableGenerator tableGenerator = new TableGenerator(m_JobSession, false, m_DiscardOutput, m_Metrics, m_JobPipeline);
+                    for (Table table : tablesToGenerate) {
+                        if (m_JobManifest.isPresent() && m_JobManifest.get().isComplete(table, m_JobSession.getChunkNumber())) {
+                            continue;
+                        }
+                        List<TableOutput> outputs = tableGenerator.generateTable(table);
+                        m_JobManifest.ifPresent(manifest -> manifest.complete(outputs));
+                        m_Outputs.addAll(outputs);
+                    }
+                });
+                m_Worker.setUncaughtExceptionHandler((thread, e) -> m_Failures.add(e));
+                m_Worker.start();
+                m_Threads.add(m_Worker);
+            }
+        }
+        // 定期打印进度
+        Thread m_ProgressReporter = null;
+        if (m_ProgressInterval > 0) {
+            long m_ProgressIntervalMillis = m_ProgressInterval * 1000;
+            m_ProgressReporter = new Thread(() -> {
+                try {
+                    while (true) {
+                        Thread.sleep(m_ProgressIntervalMillis);
+                        System.out.println(m_Metrics.getProgressLine());
+                    }
+                }
+                catch (InterruptedException e) {
+                    // the generation is done
+                }
+            });
+            m_ProgressReporter.setDaemon(true);
+            m_ProgressReporter.start();
+        }
+        // 自适应调度在主线程中运行，任何分片失败时抛出异常，不再写入报告
+        try {
+            m_Scheduler.ifPresent(AdaptiveScheduler::run);
+            for (Thread m_Worker : m_Threads) {
+                try {
+                    m_Worker.join();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TpcdsException("Interrupted while waiting for the generator threads");
+                }
+            }
+            // 任何线程失败时整个运行失败，不根据部分完成的分片写入报告
+            if (!m_Failures.isEmpty()) {
+                throwFailure(m_Failures);
+            }
+        }
+        finally {
+            if (m_ProgressReporter != null) {
+                m_ProgressReporter.interrupt();
+            }
+            m_Pipeline.ifPresent(RowPipeline::close);
+        }
+        if (m_ProgressReporter != null) {
+            System.out.println(m_Metrics.getProgressLine());
+        }
+
+        if (m_ProfileColumns) {
+            System.out.print(ColumnProfiler.getReport());
+        }
+        if (m_Benchmark) {
+            System.out.print(new BenchmarkReport(m_Outputs, System.nanoTime() - m_StartNanos, m_Thread));
+        }
+        if (m_Verify) {
+            List<String> m_Differences = new HashReport(m_Outputs).compare(m_ExpectedReport);
+            m_Differences.forEach(System.out::println);
+            if (!m_Differences.isEmpty()) {
+                throw new TpcdsException(format("%d differences to the report", m_Differences.size()));
+            }
+            System.out.println("The generated rows match the report");
+        }
+        if (m_DiscardOutput) {
+            return;
+        }
+
+        // 各表的行哈希，不论并行度如何，相同的数据其哈希相同
+        new TableGenerator(m_FirstSession, false).replaceTextFile(
+                "_hash_report" + m_NodeSuffix + ".json",
+                new HashReport(m_Manifest.get().getOutputs()).toJson());
+
+        if (m_NodeCount > 1) {
+            // 节点清单只列出已完成的分片，有分片未完成时不写入
+            for (Table table : tablesToGenerate) {
+                if (table.isChild() && !m_FirstSession.generateOnlyOneTable()) {
+                    continue;
+                }
+                for (Session m_JobSession : m_JobSessions) {
+                    if (!m_Manifest.get().isComplete(table, m_JobSession.getChunkNumber())) {
+                        throw new TpcdsException(format("Chunk %d of %s was not generated, so %s is not written",
+                                m_JobSession.getChunkNumber(), table.getName(), format("_manifest_node_%d_of_%d.json", m_NodeIndex, m_NodeCount)));
+                    }
+                }
+            }
+            Session m_NodeSession = m_JobSessions.get(0);
+            new TableGenerator(m_NodeSession, false).writeTextFile(
+                    format("_manifest_node_%d_of_%d.json", m_NodeIndex, m_NodeCount),
+                    createNodeManifest(m_JobSessions, tablesToGenerate, m_NodeCount, m_NodeIndex, m_Thread));
+        }
+    }
+
+    // throws the first failure of the generator threads, with the others attached to it
+    private static void throwFailure(List<Throwable> failures)
+    {
+        Throwable failure = failures.get(0);
+        failures.subList(1, failures.size()).forEach(failure::addSuppressed);
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new TpcdsException(failure.toString());
+    }
+
+    // lists the chunks that this node generated. The output files of a chunk all start with its filePrefix
+    private static String createNodeManifest(List<Session> sessions, List<Table> tables, int nodeCount, int nodeIndex, int threads)
+    {
+        Session firstSession = sessions.get(0);
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("{\n");
+        manifest.append(format("  \"scale\": %s,\n", firstSession.getScaling().getScale()));
+        manifest.append(format("  \"nodeCount\": %d,\n", nodeCount));
+        manifest.append(format("  \"nodeIndex\": %d,\n", nodeIndex));
+        manifest.append(format("  \"threadsPerNode\": %d,\n", threads));
+        manifest.append(format("  \"parallelism\": %d,\n", firstSession.getParallelism()));
+        manifest.append(format("  \"options\": \"%s\",\n", firstSession.getCommandLineArguments().replace("\\", "\\\\").replace("\"", "\\\"")));
+        manifest.append("  \"chunks\": [");
+        String separator = "\n";
+        for (Table table : tables) {
+            if (table.isChild() && !firstSession.generateOnlyOneTable()) {
+                continue;
+            }
+            for (Session session : sessions) {
+                Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, session);
+                manifest.append(separator);
+                manifest.append(format("    {\"table\": \"%s\", \"chunk\": %d, \"firstRow\": %d, \"lastRow\": %d, \"filePrefix\": \"%s_%d_%d\"}",
+                        table.getName(),
+                        session.getChunkNumber(),
+                        boundaries.getFirstRow(),
+                        boundaries.getLastRow(),
+                        table.getName(),
+                        session.getChunkNumber(),
+                        session.getParallelism()));
+                separator = ",\n";
+            }
+        }
+        manifest.append("\n  ]\n}\n");
+        return manifest.toString();
+    }
+
+    private static int parsePositiveInt(String optionName, String value)
+    {
+        if (!StringUtils.isNumeric(value) || value.isEmpty() || Integer.parseInt(value) == 0) {
+            throw new InvalidOptionException(optionName, value, "Expected a positive number");
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static List<Column> parseColumns(Table table, String columnNames)
+    {
+        ImmutableList.Builder<Column> columns = ImmutableList.builder();
+        for (String columnName : columnNames.split(",")) {
+            try {
+                columns.add(table.getColumn(columnName.trim()));
+            }
+            catch (IllegalStateException e) {
+                throw new InvalidOptionException("columns", columnNames, format("%s is not a column of %s", columnName, table.getName()));
+            }
         }
+        return columns.build();
     }
 }
@@ -0,0 +1,386 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+// Sorts the rows of a table by the columns of a Sorting. Each row is encoded into a single byte array: first
+// the sort key, encoded so that comparing the bytes without sign gives the order of the rows, then the values.
+// When the encoded rows reach the memory budget they are sorted and spilled to a run file, and the runs are
+// merged when the rows are read back, at most MERGE_FAN_IN at a time so the open files stay bounded. Rows with
+// equal keys keep the order in which they were added.
+public final class ExternalSorter
+        implements Closeable
+{
+    // the per-row cost of the array header and the reference to it
+    private static final int ROW_OVERHEAD = 24;
+    private static final int RUN_BUFFER_SIZE = 64 * 1024;
+    private static final int MERGE_FAN_IN = 64;
+
+    public interface RowConsumer
+    {
+        void accept(List<String> values)
+                throws IOException;
+    }
+
+    private interface EncodedRowConsumer
+    {
+        void accept(byte[] row)
+                throws IOException;
+    }
+
+    private final ColumnType.Base[] keyTypes;
+    private final int[] keyScales;
+    private final int[] keyIndexes;
+    private final long memoryBudget;
+    private final Optional<File> spillDirectory;
+    private final List<File> runs = new ArrayList<>();
+    private final ByteArrayOutputStream encodedRow = new ByteArrayOutputStream();
+    private final DataOutputStream encoder = new DataOutputStream(encodedRow);
+
+    private byte[][] rows = new byte[1024][];
+    private int rowCount;
+    private long bufferedBytes;
+
+    // keyIndexes are the indexes of the sort columns in the values of a row. The runs are written to the
+    // spillDirectory, or to java.io.tmpdir
+    public ExternalSorter(List<Column> keyColumns, int[] keyIndexes, long memoryBudget, Optional<File> spillDirectory)
+    {
+        this.keyTypes = keyColumns.stream().map(column -> column.getType().getBase()).toArray(ColumnType.Base[]::new);
+        this.keyScales = keyColumns.stream().mapToInt(column -> column.getType().getScale().orElse(0)).toArray();
+        this.keyIndexes = keyIndexes.clone();
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = requireNonNull(spillDirectory, "spillDirectory is null");
+    }
+
+    public void add(List<String> values)
+            throws IOException
+    {
+        byte[] row = encode(values);
+        if (rowCount == rows.length) {
+            rows = Arrays.copyOf(rows, rowCount * 2);
+        }
+        rows[rowCount++] = row;
+        bufferedBytes += row.length + ROW_OVERHEAD;
+        if (bufferedBytes >= memoryBudget) {
+            spill();
+        }
+    }
+
+    // passes all of the rows to the consumer in sorted order
+    public void finish(RowConsumer consumer)
+            throws IOException
+    {
+        try {
+            if (runs.isEmpty()) {
+                sortBuffer();
+                for (int i = 0; i < rowCount; i++) {
+                    consumer.accept(decodeValues(rows[i]));
+                }
+                return;
+            }
+
+            if (rowCount > 0) {
+                spill();
+            }
+            // Merge consecutive runs into longer ones until they can all be merged at once. A merged run takes the
+            // place of the runs it was merged from, so rows with equal keys stay in the order they were added
+            while (runs.size() > MERGE_FAN_IN) {
+                List<File> pass = new ArrayList<>(runs);
+                List<File> mergedRuns = new ArrayList<>();
+                for (int start = 0; start < pass.size(); start += MERGE_FAN_IN) {
+                    List<File> group = pass.subList(start, Math.min(start + MERGE_FAN_IN, pass.size()));
+                    if (group.size() == 1) {
+                        mergedRuns.add(group.get(0));
+                        continue;
+                    }
+                    File mergedRun = createRun();
+                    mergedRuns.add(mergedRun);
+                    try (DataOutputStream output = openRun(mergedRun)) {
+                        mergeRuns(group, row -> writeRow(output, row));
+                    }
+                    for (File run : group) {
+                        runs.remove(run);
+                        run.delete();
+                    }
+                }
+                runs.clear();
+                runs.addAll(mergedRuns);
+            }
+            mergeRuns(runs, row -> consumer.accept(decodeValues(row)));
+        }
+        finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        clearBuffer();
+        for (File run : runs) {
+            run.delete();
+        }
+        runs.clear();
+    }
+
+    private void mergeRuns(List<File> runsToMerge, EncodedRowConsumer consumer)
+            throws IOException
+    {
+        List<RunReader> runReaders = new ArrayList<>(runsToMerge.size());
+        PriorityQueue<RunReader> readers = new PriorityQueue<>(runsToMerge.size(), (left, right) -> {
+            int result = compareRows(left.getRow(), right.getRow());
+            return result != 0 ? result : Integer.compare(left.getRunNumber(), right.getRunNumber());
+        });
+        try {
+            for (int i = 0; i < runsToMerge.size(); i++) {
+                RunReader reader = new RunReader(runsToMerge.get(i), i);
+                runReaders.add(reader);
+                if (reader.next()) {
+                    readers.add(reader);
+                }
+            }
+            while (!readers.isEmpty()) {
+                RunReader reader = readers.poll();
+                consumer.accept(reader.getRow());
+                if (reader.next()) {
+                    readers.add(reader);
+                }
+            }
+        }
+        finally {
+            for (RunReader reader : runReaders) {
+                reader.close();
+            }
+        }
+    }
+
+    private void spill()
+            throws IOException
+    {
+        sortBuffer();
+        try (DataOutputStream output = openRun(createRun())) {
+            for (int i = 0; i < rowCount; i++) {
+                writeRow(output, rows[i]);
+            }
+        }
+        clearBuffer();
+    }
+
+    // the run is deleted by close, whether or not the sort completes
+    private File createRun()
+            throws IOException
+    {
+        File run = File.createTempFile("tpcds-sort-", ".run", spillDirectory.orElse(null));
+        runs.add(run);
+        return run;
+    }
+
+    private static DataOutputStream openRun(File run)
+            throws IOException
+    {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), RUN_BUFFER_SIZE));
+    }
+
+    private static void writeRow(DataOutputStream output, byte[] row)
+            throws IOException
+    {
+        output.writeInt(row.length);
+        output.write(row);
+    }
+
+    private void sortBuffer()
+    {
+        // Arrays.sort of objects is stable, which keeps rows with equal keys in generation order
+        Arrays.sort(rows, 0, rowCount, ExternalSorter::compareRows);
+    }
+
+    private void clearBuffer()
+    {
+        Arrays.fill(rows, 0, rowCount, null);
+        rowCount = 0;
+        bufferedBytes = 0;
+    }
+
+    // a row is <key length><key><value count>(<value length or -1 for null><value>)*
+    private byte[] encode(List<String> values)
+            throws IOException
+    {
+        encodedRow.reset();
+        encoder.writeInt(0);
+        for (int i = 0; i < keyIndexes.length; i++) {
+            encodeKey(values.get(keyIndexes[i]), keyTypes[i], keyScales[i]);
+        }
+        int keyLength = encodedRow.size() - Integer.BYTES;
+
+        encoder.writeInt(values.size());
+        for (String value : values) {
+            if (value == null) {
+                encoder.writeInt(-1);
+            }
+            else {
+                byte[] bytes = value.getBytes(UTF_8);
+                encoder.writeInt(bytes.length);
+                encoder.write(bytes);
+            }
+        }
+
+        byte[] row = encodedRow.toByteArray();
+        row[0] = (byte) (keyLength >>> 24);
+        row[1] = (byte) (keyLength >>> 16);
+        row[2] = (byte) (keyLength >>> 8);
+        row[3] = (byte) keyLength;
+        return row;
+    }
+
+    private void encodeKey(String value, ColumnType.Base type, int scale)
+            throws IOException
+    {
+        // nulls sort first
+        if (value == null) {
+            encoder.writeByte(0);
+            return;
+        }
+        encoder.writeByte(1);
+        switch (type) {
+            case IDENTIFIER:
+            case INTEGER:
+                // flipping the sign bit makes the big-endian bytes of a long sort in numeric order
+                encoder.writeLong(Long.parseLong(value) ^ Long.MIN_VALUE);
+                break;
+            case DECIMAL:
+                encoder.writeLong(new BigDecimal(value).setScale(scale).unscaledValue().longValue() ^ Long.MIN_VALUE);
+                break;
+            default:
+                // dates and times are rendered so that their text sorts in time order. The terminator sorts
+                // a value before any longer value that it is a prefix of
+                encoder.write(value.getBytes(UTF_8));
+                encoder.writeByte(0);
+        }
+    }
+
+    private static int compareRows(byte[] left, byte[] right)
+    {
+        int leftEnd = Integer.BYTES + getKeyLength(left);
+        int rightEnd = Integer.BYTES + getKeyLength(right);
+        for (int i = Integer.BYTES, j = Integer.BYTES; i < leftEnd && j < rightEnd; i++, j++) {
+            int result = Integer.compare(left[i] & 0xff, right[j] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(leftEnd, rightEnd);
+    }
+
+    private static int getKeyLength(byte[] row)
+    {
+        return (row[0] & 0xff) << 24 | (row[1] & 0xff) << 16 | (row[2] & 0xff) << 8 | (row[3] & 0xff);
+    }
+
+    private static List<String> decodeValues(byte[] row)
+    {
+        int position = Integer.BYTES + getKeyLength(row);
+        int valueCount = readInt(row, position);
+        position += Integer.BYTES;
+        List<String> values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            int length = readInt(row, position);
+            position += Integer.BYTES;
+            if (length == -1) {
+                values.add(null);
+            }
+            else {
+                values.add(new String(row, position, length, UTF_8));
+                position += length;
+            }
+        }
+        return values;
+    }
+
+    private static int readInt(byte[] bytes, int position)
+    {
+        return (bytes[position] & 0xff) << 24 | (bytes[position + 1] & 0xff) << 16 | (bytes[position + 2] & 0xff) << 8 | (bytes[position + 3] & 0xff);
+    }
+
+    private static class RunReader
+            implements Closeable
+    {
+        private final DataInputStream input;
+        private final int runNumber;
+        private byte[] row;
+
+        private RunReader(File run, int runNumber)
+                throws IOException
+        {
+            this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(run), RUN_BUFFER_SIZE));
+            this.runNumber = runNumber;
+        }
+
+        private boolean next()
+                throws IOException
+        {
+            int length;
+            try {
+                length = input.readInt();
+            }
+            catch (EOFException e) {
+                row = null;
+                return false;
+            }
+            row = new byte[length];
+            input.readFully(row);
+            return true;
+        }
+
+        private byte[] getRow()
+        {
+            return row;
+        }
+
+        private int getRunNumber()
+        {
+            return runNumber;
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            input.close();
+        }
+    }
+}
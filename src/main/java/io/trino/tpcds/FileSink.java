@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+// How the table files are written to a local file system. Files in HDFS are always written as streams
+public enum FileSink
+{
+    // FileOutputStream, which copies every buffer into native memory before writing it
+    STREAM,
+    // a FileChannel with a direct buffer, see ChannelOutputStream
+    CHANNEL,
+    // memory-mapped windows of a file whose length is set to its predicted size, see MappedFileOutputStream
+    MMAP;
+
+    public static FileSink parseFileSink(String fileSink)
+    {
+        try {
+            return valueOf(fileSink.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("sink", fileSink, "Expected stream, channel or mmap");
+        }
+    }
+}
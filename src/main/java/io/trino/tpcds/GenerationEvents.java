@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Java Flight Recorder events of the phases of the generation, e.g. for
+//     java -XX:StartFlightRecording=filename=tpcds.jfr ... io.trino.tpcds.Driver ...
+//     jfr print --events 'io.trino.tpcds.*' tpcds.jfr
+// Without a recording, begin, end and commit do nothing and the JIT removes the events, so the fields are only
+// filled in when shouldCommit is true. Every use of an event checks ENABLED first. The events run in the thread of the chunk, so those without table and chunk
+// fields, such as the permutations, belong to the chunk event that encloses them
+final class GenerationEvents
+{
+    private static final String CATEGORY = "TPC-DS";
+
+    // jdk.jfr is in Java 11 and later, and in Java 8 from 8u272. Without it the event classes cannot be loaded, so
+    // the events are only created when this is true, and the generation does not depend on it
+    static final boolean ENABLED = isFlightRecorderAvailable();
+
+    private GenerationEvents() {}
+
+    private static boolean isFlightRecorderAvailable()
+    {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Name("io.trino.tpcds.Chunk")
+    @Label("Chunk")
+    @Description("The generation and writing of a chunk of a table")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class ChunkEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+
+        @Label("First Row")
+        long firstRow;
+
+        @Label("Last Row")
+        long lastRow;
+
+        @Label("Rows Written")
+        long rowsWritten;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytesWritten;
+    }
+
+    @Name("io.trino.tpcds.GeneratorConstruction")
+    @Label("Generator Construction")
+    @Description("The construction of the row generators of a chunk")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class GeneratorConstructionEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+    }
+
+    @Name("io.trino.tpcds.SkipRows")
+    @Label("Skip Rows")
+    @Description("Advancing the random number streams of the row generators to the first row of a chunk")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class SkipRowsEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+
+        @Label("Starting Row Number")
+        long startingRowNumber;
+    }
+
+    @Name("io.trino.tpcds.Permutation")
+    @Label("Permutation")
+    @Description("Building a permutation, which the sales generators do before their first row")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class PermutationEvent
+            extends Event
+    {
+        @Label("Size")
+        int size;
+    }
+
+    @Name("io.trino.tpcds.FileOpen")
+    @Label("File Open")
+    @Description("Creating or reopening a file of a table")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class FileOpenEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+
+        @Label("Path")
+        String path;
+
+        @Label("Reopened")
+        boolean reopened;
+    }
+
+    @Name("io.trino.tpcds.HdfsCreate")
+    @Label("HDFS Create")
+    @Description("Creating a file in HDFS, including the checks of its directory")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class HdfsCreateEvent
+            extends Event
+    {
+        @Label("Chunk")
+        int chunk;
+
+        @Label("Path")
+        String path;
+    }
+
+    @Name("io.trino.tpcds.Flush")
+    @Label("Flush")
+    @Description("Writing a full buffer to a file of a table")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class FlushEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+    }
+
+    @Name("io.trino.tpcds.FileClose")
+    @Label("File Close")
+    @Description("Flushing and closing a file of a table")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class FileCloseEvent
+            extends Event
+    {
+        @Label("Table")
+        String table;
+
+        @Label("Chunk")
+        int chunk;
+    }
+}
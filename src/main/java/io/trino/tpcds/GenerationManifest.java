@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Records every (table, chunk) whose files are complete, so that a run that died can be resumed. The manifest is
+// replaced as a whole after each chunk, so it never lists a chunk whose files are still being written
+public class GenerationManifest
+{
+    private static final Pattern CHUNK_PATTERN = Pattern.compile(
+            "\\{\"table\": \"(\\w+)\", \"chunk\": (\\d+), \"firstRow\": (-?\\d+), \"lastRow\": (-?\\d+), \"rows\": (\\d+), \"bytes\": (\\d+), \"checksum\": \"([0-9a-f]{16})\", \"contentHash\": \"([0-9a-f]{16})\"}");
+    private static final Pattern OPTIONS_PATTERN = Pattern.compile("\"options\": \"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    private final TableGenerator tableGenerator;
+    private final String fileName;
+    private final String options;
+    private final int parallelism;
+    private final List<TableOutput> outputs = new ArrayList<>();
+    private final Map<String, TableOutput> outputsByKey = new HashMap<>();
+
+    private GenerationManifest(TableGenerator tableGenerator, String fileName, String options, int parallelism)
+    {
+        this.tableGenerator = requireNonNull(tableGenerator, "tableGenerator is null");
+        this.fileName = requireNonNull(fileName, "fileName is null");
+        this.options = requireNonNull(options, "options is null");
+        this.parallelism = parallelism;
+    }
+
+    // Starts a new manifest, or with resume continues the one of an earlier run with the same options. The
+    // tableGenerator is only used to read and write the manifest in its target directory
+    public static GenerationManifest open(TableGenerator tableGenerator, String fileName, String options, int parallelism, boolean resume)
+    {
+        GenerationManifest manifest = new GenerationManifest(tableGenerator, fileName, options, parallelism);
+        Optional<String> contents = resume ? tableGenerator.readTextFile(fileName) : Optional.empty();
+        if (!contents.isPresent()) {
+            manifest.write();
+            return manifest;
+        }
+
+        Matcher optionsMatcher = OPTIONS_PATTERN.matcher(contents.get());
+        String previousOptions = optionsMatcher.find() ? unescape(optionsMatcher.group(1)) : "";
+        if (!previousOptions.equals(options)) {
+            throw new InvalidOptionException("resume", fileName, format("The manifest is of a run with the options '%s', not '%s'", previousOptions, options));
+        }
+        Matcher chunkMatcher = CHUNK_PATTERN.matcher(contents.get());
+        while (chunkMatcher.find()) {
+            manifest.add(new TableOutput(
+                    Table.valueOf(chunkMatcher.group(1).toUpperCase()),
+                    Integer.parseInt(chunkMatcher.group(2)),
+                    parallelism,
+                    Long.parseLong(chunkMatcher.group(3)),
+                    Long.parseLong(chunkMatcher.group(4)),
+                    Long.parseLong(chunkMatcher.group(5)),
+                    Long.parseLong(chunkMatcher.group(6)),
+                    Long.parseUnsignedLong(chunkMatcher.group(7), 16),
+                    Long.parseUnsignedLong(chunkMatcher.group(8), 16)));
+        }
+        return manifest;
+    }
+
+    public synchronized boolean isComplete(Table table, int chunkNumber)
+    {
+        return outputsByKey.containsKey(getKey(table, chunkNumber));
+    }
+
+    public synchronized List<TableOutput> getOutputs()
+    {
+        return ImmutableList.copyOf(outputs);
+    }
+
+    // records the chunk of a table, and of its child table, once all of its files are closed
+    public synchronized void complete(List<TableOutput> tableOutputs)
+    {
+        if (tableOutputs.isEmpty()) {
+            return;
+        }
+        tableOutputs.forEach(this::add);
+        write();
+    }
+
+    private void add(TableOutput output)
+    {
+        if (outputsByKey.put(getKey(output.getTable(), output.getChunkNumber()), output) == null) {
+            outputs.add(output);
+        }
+    }
+
+    private void write()
+    {
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("{\n");
+        manifest.append(format("  \"options\": \"%s\",\n", escape(options)));
+        manifest.append(format("  \"parallelism\": %d,\n", parallelism));
+        manifest.append("  \"chunks\": [");
+        String separator = "\n";
+        for (TableOutput output : outputs) {
+            manifest.append(separator);
+            manifest.append(format("    {\"table\": \"%s\", \"chunk\": %d, \"firstRow\": %d, \"lastRow\": %d, \"rows\": %d, \"bytes\": %d, \"checksum\": \"%016x\", \"contentHash\": \"%016x\"}",
+                    output.getTable().getName(),
+                    output.getChunkNumber(),
+                    output.getFirstRow(),
+                    output.getLastRow(),
+                    output.getRowCount(),
+                    output.getByteCount(),
+                    output.getChecksum(),
+                    output.getContentHash()));
+            separator = ",\n";
+        }
+        manifest.append("\n  ]\n}\n");
+        tableGenerator.replaceTextFile(fileName, manifest.toString());
+    }
+
+    private static String getKey(Table table, int chunkNumber)
+    {
+        return table.getName() + "/" + chunkNumber;
+    }
+
+    private static String escape(String value)
+    {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String unescape(String value)
+    {
+        return value.replaceAll("\\\\(.)", "$1");
+    }
+}
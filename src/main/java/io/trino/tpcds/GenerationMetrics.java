@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+// The progress of all of the table chunks of a run. The progress and the ETA are in estimated bytes, the rows of the
+// generator of each chunk times their average size, as the rows of the tables take very different times
+public class GenerationMetrics
+        implements GenerationMetricsMBean
+{
+    private static final String JMX_DOMAIN = "io.trino.tpcds";
+
+    private final Map<String, ChunkMetrics> chunks = new LinkedHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private MBeanServer mBeanServer;
+    private volatile Optional<RowPipeline> pipeline = Optional.empty();
+
+    // the pipeline whose queue depths are reported
+    public void setPipeline(RowPipeline pipeline)
+    {
+        this.pipeline = Optional.of(pipeline);
+    }
+
+    // the metrics of a chunk of the table, which are added when they are first asked for
+    public synchronized ChunkMetrics getChunk(Table table, Session session)
+    {
+        String key = table.getName() + "/" + session.getChunkNumber();
+        ChunkMetrics chunkMetrics = chunks.get(key);
+        if (chunkMetrics == null) {
+            long totalRows = 0;
+            double bytesPerRow = 0;
+            if (!table.isChild() || session.generateOnlyOneTable()) {
+                Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, session);
+                totalRows = Math.max(0, boundaries.getLastRow() - boundaries.getFirstRow() + 1);
+                bytesPerRow = SizeEstimates.getBytesPerRow(table);
+                if (table.hasChild() && !session.generateOnlyOneTable()) {
+                    bytesPerRow += SizeEstimates.getBytesPerRow(table.getChild());
+                }
+            }
+            chunkMetrics = new ChunkMetrics(table, session.getChunkNumber(), totalRows, bytesPerRow);
+            chunks.put(key, chunkMetrics);
+            if (mBeanServer != null) {
+                register(chunkMetrics, format("%s:type=Chunk,table=%s,chunk=%d", JMX_DOMAIN, table.getName(), session.getChunkNumber()));
+            }
+        }
+        return chunkMetrics;
+    }
+
+    // registers these metrics, and those of every chunk, with the platform MBean server
+    public synchronized void registerMBeans()
+    {
+        mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        register(this, JMX_DOMAIN + ":type=Generation");
+        for (ChunkMetrics chunkMetrics : chunks.values()) {
+            register(chunkMetrics, format("%s:type=Chunk,table=%s,chunk=%d", JMX_DOMAIN, chunkMetrics.getTable(), chunkMetrics.getChunk()));
+        }
+    }
+
+    private void register(Object mBean, String name)
+    {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(mBean, objectName);
+        }
+        catch (JMException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    private synchronized List<ChunkMetrics> getChunks()
+    {
+        return new ArrayList<>(chunks.values());
+    }
+
+    @Override
+    public int getChunkCount()
+    {
+        return getChunks().size();
+    }
+
+    @Override
+    public int getCompletedChunkCount()
+    {
+        return (int) getChunks().stream().filter(ChunkMetrics::isComplete).count();
+    }
+
+    @Override
+    public long getRowsWritten()
+    {
+        return getChunks().stream().mapToLong(ChunkMetrics::getRowsWritten).sum();
+    }
+
+    @Override
+    public long getBytesWritten()
+    {
+        return getChunks().stream().mapToLong(ChunkMetrics::getBytesWritten).sum();
+    }
+
+    @Override
+    public double getBytesPerSecond()
+    {
+        return getBytesWritten() * 1_000_000_000.0 / Math.max(1, System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public double getProgressPercent()
+    {
+        List<ChunkMetrics> allChunks = getChunks();
+        double total = allChunks.stream().mapToDouble(ChunkMetrics::getWeightedTotalRows).sum();
+        if (total == 0) {
+            return 100;
+        }
+        return 100 * allChunks.stream().mapToDouble(ChunkMetrics::getWeightedRowsGenerated).sum() / total;
+    }
+
+    // -1 until there is any progress to estimate from
+    @Override
+    public long getEtaSeconds()
+    {
+        double progress = getProgressPercent();
+        if (progress <= 0) {
+            return -1;
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return (long) (elapsedSeconds * (100 - progress) / progress);
+    }
+
+    @Override
+    public int getEncodeQueueDepth()
+    {
+        return pipeline.map(RowPipeline::getEncodeQueueDepth).orElse(0);
+    }
+
+    @Override
+    public int getWriteQueueDepth()
+    {
+        return pipeline.map(RowPipeline::getWriteQueueDepth).orElse(0);
+    }
+
+    // the highest p99 flush latency of the chunks that are running
+    public long getMaximumFlushLatencyP99Micros()
+    {
+        return getChunks().stream()
+                .filter(chunkMetrics -> chunkMetrics.isStarted() && !chunkMetrics.isComplete())
+                .mapToLong(ChunkMetrics::getFlushLatencyP99Micros)
+                .max()
+                .orElse(0);
+    }
+
+    // One line with the progress of the run, and the running chunk that is furthest behind, which is where a
+    // slow disk or a stuck worker shows
+    public String getProgressLine()
+    {
+        long elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000;
+        StringBuilder line = new StringBuilder();
+        line.append(format("[%s] %.1f%%, %d of %d chunks done, %d rows, %.1f MB written, %.1f MB/s, ETA %s",
+                formatDuration(elapsedSeconds),
+                getProgressPercent(),
+                getCompletedChunkCount(),
+                getChunkCount(),
+                getRowsWritten(),
+                getBytesWritten() / (1024.0 * 1024.0),
+                getBytesPerSecond() / (1024.0 * 1024.0),
+                getEtaSeconds() < 0 ? "unknown" : formatDuration(getEtaSeconds())));
+
+        if (pipeline.isPresent()) {
+            line.append(format(", %d batches to encode, %d to write", getEncodeQueueDepth(), getWriteQueueDepth()));
+        }
+
+        ChunkMetrics slowest = null;
+        for (ChunkMetrics chunkMetrics : getChunks()) {
+            if (chunkMetrics.isStarted() && !chunkMetrics.isComplete() && chunkMetrics.getTotalRows() > 0 &&
+                    (slowest == null || getChunkProgress(chunkMetrics) < getChunkProgress(slowest))) {
+                slowest = chunkMetrics;
+            }
+        }
+        if (slowest != null) {
+            line.append(format(", slowest running: %s chunk %d at %.1f%%", slowest.getTable(), slowest.getChunk(), getChunkProgress(slowest)));
+        }
+        return line.toString();
+    }
+
+    private static double getChunkProgress(ChunkMetrics chunkMetrics)
+    {
+        return 100.0 * chunkMetrics.getRowsGenerated() / chunkMetrics.getTotalRows();
+    }
+
+    private static String formatDuration(long seconds)
+    {
+        return format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.trino.tpcds.Results.constructResults;
+import static java.lang.String.format;
+
+// What a run will generate, before it is started: per table the rows, the bytes and the chunks, and how long the
+// run will take. The bytes and the time per row are calibrated by generating the first rows of each table, with
+// the separator, null string and columns of the run, on this machine. The time assumes that every node is like this
+// one and that the disks keep up, so it is the time of the CPUs
+public class GenerationPlan
+{
+    // the JIT takes seconds to compile the generators of the sales tables, even longer on few processors
+    private static final long CALIBRATION_WINDOW_NANOS = 500_000_000;
+    private static final int MAXIMUM_CALIBRATION_WINDOWS = 6;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double BYTES_PER_GB = 1024 * 1024 * 1024;
+
+    private final List<TablePlan> tables;
+    private final int parallelism;
+    private final int threadsPerNode;
+    private final int processors;
+
+    private GenerationPlan(List<TablePlan> tables, int parallelism, int threadsPerNode, int processors)
+    {
+        this.tables = ImmutableList.copyOf(tables);
+        this.parallelism = parallelism;
+        this.threadsPerNode = threadsPerNode;
+        this.processors = processors;
+    }
+
+    // The session is that of any chunk of the run. Each node runs threadsPerNode chunks at once, one per thread
+    public static GenerationPlan create(Session session, List<Table> tablesToGenerate, int threadsPerNode)
+    {
+        // The tables share most of the code of the generators, so the first pass warms up the JIT for all of them,
+        // and only the second one is measured
+        for (Table table : tablesToGenerate) {
+            if (!table.isChild() || session.generateOnlyOneTable()) {
+                calibrate(table, table.hasChild() && !session.generateOnlyOneTable() ? table.getChild() : null, session);
+            }
+        }
+
+        List<TablePlan> tables = new ArrayList<>();
+        for (Table table : tablesToGenerate) {
+            // a child table is generated with its parent, unless it is the only table
+            if (table.isChild() && !session.generateOnlyOneTable()) {
+                continue;
+            }
+            Table childTable = table.hasChild() && !session.generateOnlyOneTable() ? table.getChild() : null;
+            Calibration calibration = calibrate(table, childTable, session);
+
+            List<Parallel.ChunkBoundaries> chunks = new ArrayList<>();
+            for (int chunk = 1; chunk <= session.getParallelism(); chunk++) {
+                chunks.add(Parallel.splitWork(table, session.withChunkNumber(chunk)));
+            }
+            tables.add(new TablePlan(table, chunks, calibration.rowsPerGeneratorRow, calibration.bytesPerGeneratorRow, calibration.nanosPerGeneratorRow));
+            if (childTable != null) {
+                // the time of the child rows is counted with the parent, which generates them
+                tables.add(new TablePlan(childTable, chunks, calibration.childRowsPerGeneratorRow, calibration.childBytesPerGeneratorRow, 0));
+            }
+        }
+        return new GenerationPlan(tables, session.getParallelism(), threadsPerNode, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Generates the first rows of the table and its child rows, in windows of time, until two windows in a row take
+    // about as long per row, once the JIT has compiled the generator. The widths are those of all of the rows
+    private static Calibration calibrate(Table table, Table childTable, Session session)
+    {
+        Session allRows = session.withParallelism(1).withChunkNumber(1);
+        Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, allRows);
+        Calibration calibration = new Calibration();
+        if (boundaries.getLastRow() < boundaries.getFirstRow()) {
+            return calibration;
+        }
+
+        Results.ResultsIterator iterator = constructResults(table, boundaries.getFirstRow(), boundaries.getLastRow(), allRows).iterator();
+        long startNanos = System.nanoTime();
+        long windowStartNanos = startNanos;
+        long windowStartRow = boundaries.getFirstRow();
+        int windows = 0;
+        double nanosPerGeneratorRow = 0;
+        long rows = 0;
+        long bytes = 0;
+        long childRows = 0;
+        long childBytes = 0;
+        long now = startNanos;
+        while (iterator.hasNext()) {
+            List<List<String>> parentAndChildRows = iterator.next();
+            if (parentAndChildRows.size() > 0) {
+                rows++;
+                bytes += TableGenerator.formatRow(parentAndChildRows.get(0), session).getBytes().length;
+            }
+            if (parentAndChildRows.size() > 1 && childTable != null) {
+                childRows++;
+                childBytes += TableGenerator.formatRow(parentAndChildRows.get(1), session).getBytes().length;
+            }
+            now = System.nanoTime();
+            if (now - windowStartNanos >= CALIBRATION_WINDOW_NANOS) {
+                double windowNanosPerGeneratorRow = (double) (now - windowStartNanos) / Math.max(1, iterator.getRowNumber() - windowStartRow);
+                boolean stable = Math.abs(windowNanosPerGeneratorRow - nanosPerGeneratorRow) <= windowNanosPerGeneratorRow / 10;
+                nanosPerGeneratorRow = windowNanosPerGeneratorRow;
+                windows++;
+                if (stable || windows == MAXIMUM_CALIBRATION_WINDOWS) {
+                    break;
+                }
+                windowStartNanos = now;
+                windowStartRow = iterator.getRowNumber();
+            }
+        }
+
+        // the generator row that is not complete yet is not counted
+        long generatorRows = Math.max(1, iterator.getRowNumber() - boundaries.getFirstRow());
+        if (windows == 0) {
+            // the whole table took less than a window
+            nanosPerGeneratorRow = (double) (now - startNanos) / generatorRows;
+        }
+        calibration.rowsPerGeneratorRow = (double) rows / generatorRows;
+        calibration.bytesPerGeneratorRow = (double) bytes / generatorRows;
+        calibration.childRowsPerGeneratorRow = (double) childRows / generatorRows;
+        calibration.childBytesPerGeneratorRow = (double) childBytes / generatorRows;
+        calibration.nanosPerGeneratorRow = nanosPerGeneratorRow;
+        return calibration;
+    }
+
+    // The time of the slowest node. A node takes as long as its slowest chunk, or longer when it runs more chunks
+    // at once than it has processors
+    public double getPredictedSeconds()
+    {
+        double slowestNode = 0;
+        for (int firstChunk = 1; firstChunk <= parallelism; firstChunk += threadsPerNode) {
+            double slowestChunk = 0;
+            double totalNanos = 0;
+            for (int chunk = firstChunk; chunk < firstChunk + threadsPerNode && chunk <= parallelism; chunk++) {
+                double chunkNanos = 0;
+                for (TablePlan table : tables) {
+                    chunkNanos += table.getChunkRows(chunk) * table.nanosPerGeneratorRow;
+                }
+                slowestChunk = Math.max(slowestChunk, chunkNanos);
+                totalNanos += chunkNanos;
+            }
+            slowestNode = Math.max(slowestNode, Math.max(slowestChunk, totalNanos / processors));
+        }
+        return slowestNode / NANOS_PER_SECOND;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder plan = new StringBuilder();
+        plan.append(format("%-24s %14s %14s %16s %10s %8s %14s%n", "table", "generator rows", "rows", "bytes", "bytes/row", "chunks", "rows/chunk"));
+        long totalRows = 0;
+        long totalBytes = 0;
+        for (TablePlan table : tables) {
+            plan.append(format("%-24s %14d %14d %16d %10.1f %8d %14d%n",
+                    table.table.getName(),
+                    table.getGeneratorRows(),
+                    table.getPredictedRows(),
+                    table.getPredictedBytes(),
+                    table.rowsPerGeneratorRow > 0 ? table.bytesPerGeneratorRow / table.rowsPerGeneratorRow : 0,
+                    table.getNonEmptyChunks(),
+                    table.getLargestChunkRows()));
+            totalRows += table.getPredictedRows();
+            totalBytes += table.getPredictedBytes();
+        }
+        plan.append(format("%-24s %14s %14d %16d%n", "total", "", totalRows, totalBytes));
+        long seconds = (long) getPredictedSeconds();
+        plan.append(format("%.1f GB in %d chunks on %d nodes of %d threads, predicted %02d:%02d:%02d with %d processors per node%n",
+                totalBytes / BYTES_PER_GB,
+                parallelism,
+                (parallelism + threadsPerNode - 1) / threadsPerNode,
+                threadsPerNode,
+                seconds / 3600,
+                seconds / 60 % 60,
+                seconds % 60,
+                processors));
+        return plan.toString();
+    }
+
+    public String toJson()
+    {
+        StringBuilder plan = new StringBuilder();
+        plan.append(format("{\n  \"parallelism\": %d,\n  \"threadsPerNode\": %d,\n  \"processors\": %d,\n  \"predictedSeconds\": %.1f,\n  \"tables\": [",
+                parallelism,
+                threadsPerNode,
+                processors,
+                getPredictedSeconds()));
+        String separator = "\n";
+        for (TablePlan table : tables) {
+            plan.append(separator);
+            plan.append(format("    {\"table\": \"%s\", \"generatorRows\": %d, \"rows\": %d, \"bytes\": %d, \"nanosPerGeneratorRow\": %.1f, \"chunks\": [",
+                    table.table.getName(),
+                    table.getGeneratorRows(),
+                    table.getPredictedRows(),
+                    table.getPredictedBytes(),
+                    table.nanosPerGeneratorRow));
+            String chunkSeparator = "";
+            for (int chunk = 1; chunk <= table.chunks.size(); chunk++) {
+                Parallel.ChunkBoundaries boundaries = table.chunks.get(chunk - 1);
+                if (table.getChunkRows(chunk) == 0) {
+                    continue;
+                }
+                plan.append(chunkSeparator);
+                plan.append(format("{\"chunk\": %d, \"firstRow\": %d, \"lastRow\": %d}", chunk, boundaries.getFirstRow(), boundaries.getLastRow()));
+                chunkSeparator = ", ";
+            }
+            plan.append("]}");
+            separator = ",\n";
+        }
+        plan.append("\n  ]\n}\n");
+        return plan.toString();
+    }
+
+    private static class Calibration
+    {
+        private double rowsPerGeneratorRow;
+        private double bytesPerGeneratorRow;
+        private double childRowsPerGeneratorRow;
+        private double childBytesPerGeneratorRow;
+        private double nanosPerGeneratorRow;
+    }
+
+    // For the sales and returns tables, a generator row is an order, of several rows
+    private static class TablePlan
+    {
+        private final Table table;
+        private final List<Parallel.ChunkBoundaries> chunks;
+        private final double rowsPerGeneratorRow;
+        private final double bytesPerGeneratorRow;
+        private final double nanosPerGeneratorRow;
+
+        private TablePlan(Table table, List<Parallel.ChunkBoundaries> chunks, double rowsPerGeneratorRow, double bytesPerGeneratorRow, double nanosPerGeneratorRow)
+        {
+            this.table = table;
+            this.chunks = chunks;
+            this.rowsPerGeneratorRow = rowsPerGeneratorRow;
+            this.bytesPerGeneratorRow = bytesPerGeneratorRow;
+            this.nanosPerGeneratorRow = nanosPerGeneratorRow;
+        }
+
+        private long getChunkRows(int chunk)
+        {
+            Parallel.ChunkBoundaries boundaries = chunks.get(chunk - 1);
+            return Math.max(0, boundaries.getLastRow() - boundaries.getFirstRow() + 1);
+        }
+
+        private long getGeneratorRows()
+        {
+            long rows = 0;
+            for (int chunk = 1; chunk <= chunks.size(); chunk++) {
+                rows += getChunkRows(chunk);
+            }
+            return rows;
+        }
+
+        private long getPredictedRows()
+        {
+            return (long) (getGeneratorRows() * rowsPerGeneratorRow);
+        }
+
+        private long getPredictedBytes()
+        {
+            return (long) (getGeneratorRows() * bytesPerGeneratorRow);
+        }
+
+        private int getNonEmptyChunks()
+        {
+            int count = 0;
+            for (int chunk = 1; chunk <= chunks.size(); chunk++) {
+                if (getChunkRows(chunk) > 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private long getLargestChunkRows()
+        {
+            long largest = 0;
+            for (int chunk = 1; chunk <= chunks.size(); chunk++) {
+                largest = Math.max(largest, getChunkRows(chunk));
+            }
+            return largest;
+        }
+    }
+}
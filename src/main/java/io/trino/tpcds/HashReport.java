@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+// The hashes of the rows of a run. Per table, the sum of the row hashes does not depend on how the table was split
+// into chunks or on the order of the rows, so runs with any parallelism, on any number of nodes, can be compared. Per
+// chunk, the ordered checksums also find rows that moved, when the two runs used the same parallelism
+public class HashReport
+{
+    private static final Pattern CHUNK_PATTERN = Pattern.compile(
+            "\\{\"table\": \"(\\w+)\", \"chunk\": (\\d+), \"parallelism\": (\\d+), \"firstRow\": (-?\\d+), \"lastRow\": (-?\\d+), \"rows\": (\\d+), \"bytes\": (\\d+), \"checksum\": \"([0-9a-f]{16})\", \"contentHash\": \"([0-9a-f]{16})\"}");
+
+    private final List<TableOutput> chunks;
+
+    public HashReport(List<TableOutput> chunks)
+    {
+        List<TableOutput> sortedChunks = new ArrayList<>(chunks);
+        sortedChunks.sort(Comparator.comparing(TableOutput::getTable).thenComparingInt(TableOutput::getChunkNumber));
+        this.chunks = ImmutableList.copyOf(sortedChunks);
+    }
+
+    // the chunks of all of the reports, e.g. those of the nodes of a run
+    public static HashReport parse(List<String> reports)
+    {
+        ImmutableList.Builder<TableOutput> chunks = ImmutableList.builder();
+        for (String report : reports) {
+            Matcher matcher = CHUNK_PATTERN.matcher(report);
+            while (matcher.find()) {
+                chunks.add(new TableOutput(
+                        Table.valueOf(matcher.group(1).toUpperCase()),
+                        Integer.parseInt(matcher.group(2)),
+                        Integer.parseInt(matcher.group(3)),
+                        Long.parseLong(matcher.group(4)),
+                        Long.parseLong(matcher.group(5)),
+                        Long.parseLong(matcher.group(6)),
+                        Long.parseLong(matcher.group(7)),
+                        Long.parseUnsignedLong(matcher.group(8), 16),
+                        Long.parseUnsignedLong(matcher.group(9), 16)));
+            }
+        }
+        return new HashReport(chunks.build());
+    }
+
+    public String toJson()
+    {
+        StringBuilder report = new StringBuilder();
+        report.append("{\n  \"tables\": [");
+        String separator = "\n";
+        for (TableTotal total : getTableTotals().values()) {
+            report.append(separator);
+            report.append(format("    {\"table\": \"%s\", \"rows\": %d, \"bytes\": %d, \"contentHash\": \"%016x\"}",
+                    total.table.getName(),
+                    total.rowCount,
+                    total.byteCount,
+                    total.contentHash));
+            separator = ",\n";
+        }
+        report.append("\n  ],\n  \"chunks\": [");
+        separator = "\n";
+        for (TableOutput chunk : chunks) {
+            report.append(separator);
+            report.append(format("    {\"table\": \"%s\", \"chunk\": %d, \"parallelism\": %d, \"firstRow\": %d, \"lastRow\": %d, \"rows\": %d, \"bytes\": %d, \"checksum\": \"%016x\", \"contentHash\": \"%016x\"}",
+                    chunk.getTable().getName(),
+                    chunk.getChunkNumber(),
+                    chunk.getParallelism(),
+                    chunk.getFirstRow(),
+                    chunk.getLastRow(),
+                    chunk.getRowCount(),
+                    chunk.getByteCount(),
+                    chunk.getChecksum(),
+                    chunk.getContentHash()));
+            separator = ",\n";
+        }
+        report.append("\n  ]\n}\n");
+        return report.toString();
+    }
+
+    // Describes every difference to the tables of the expected report. dbgen_version holds the time it was
+    // generated, so it is not compared
+    public List<String> compare(HashReport expected)
+    {
+        List<String> differences = new ArrayList<>();
+        Map<Table, TableTotal> totals = getTableTotals();
+        for (TableTotal expectedTotal : expected.getTableTotals().values()) {
+            Table table = expectedTotal.table;
+            if (table == Table.DBGEN_VERSION) {
+                continue;
+            }
+            TableTotal total = totals.get(table);
+            if (total == null) {
+                differences.add(format("%s: not generated", table.getName()));
+            }
+            else if (total.rowCount != expectedTotal.rowCount || total.contentHash != expectedTotal.contentHash) {
+                differences.add(format("%s: %d rows with hash %016x, expected %d rows with hash %016x",
+                        table.getName(), total.rowCount, total.contentHash, expectedTotal.rowCount, expectedTotal.contentHash));
+            }
+        }
+
+        Map<String, TableOutput> chunksByKey = new HashMap<>();
+        for (TableOutput chunk : chunks) {
+            chunksByKey.put(getKey(chunk), chunk);
+        }
+        for (TableOutput expectedChunk : expected.chunks) {
+            TableOutput chunk = chunksByKey.get(getKey(expectedChunk));
+            if (chunk != null && expectedChunk.getTable() != Table.DBGEN_VERSION && chunk.getChecksum() != expectedChunk.getChecksum()) {
+                differences.add(format("%s chunk %d of %d: checksum %016x, expected %016x",
+                        chunk.getTable().getName(), chunk.getChunkNumber(), chunk.getParallelism(), chunk.getChecksum(), expectedChunk.getChecksum()));
+            }
+        }
+        return differences;
+    }
+
+    private Map<Table, TableTotal> getTableTotals()
+    {
+        Map<Table, TableTotal> totals = new EnumMap<>(Table.class);
+        for (TableOutput chunk : chunks) {
+            TableTotal total = totals.computeIfAbsent(chunk.getTable(), TableTotal::new);
+            total.rowCount += chunk.getRowCount();
+            total.byteCount += chunk.getByteCount();
+            total.contentHash += chunk.getContentHash();
+        }
+        return totals;
+    }
+
+    private static String getKey(TableOutput chunk)
+    {
+        return format("%s/%d/%d", chunk.getTable().getName(), chunk.getChunkNumber(), chunk.getParallelism());
+    }
+
+    private static class TableTotal
+    {
+        private final Table table;
+        private long rowCount;
+        private long byteCount;
+        private long contentHash;
+
+        private TableTotal(Table table)
+        {
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+// Writes a new file through memory-mapped windows, so the rows are copied straight into the page cache. The length
+// of the file is first set to its predicted size, which makes room for it at once rather than window by window,
+// and is truncated to what was written when the stream is closed. A file that was not closed, e.g. by a crash,
+// ends in zeros, but it is then not in the manifest of the run either, so --resume writes it again.
+//
+// The windows are unmapped when they are garbage collected, as Java 8 has no way to unmap them explicitly
+public class MappedFileOutputStream
+        extends OutputStream
+{
+    public static final long WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    public MappedFileOutputStream(String path, long predictedSize)
+            throws IOException
+    {
+        this.file = new RandomAccessFile(path, "rw");
+        this.channel = file.getChannel();
+        this.windowStart = channel.size();
+        if (predictedSize > windowStart) {
+            file.setLength(predictedSize);
+        }
+        this.window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, WINDOW_SIZE);
+    }
+
+    @Override
+    public void write(int b)
+            throws IOException
+    {
+        if (!window.hasRemaining()) {
+            nextWindow();
+        }
+        window.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length)
+            throws IOException
+    {
+        checkPositionIndexes(offset, offset + length, bytes.length);
+        while (length > 0) {
+            if (!window.hasRemaining()) {
+                nextWindow();
+            }
+            int count = Math.min(length, window.remaining());
+            window.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    // mapping a window past the end of the file extends it
+    private void nextWindow()
+            throws IOException
+    {
+        windowStart += WINDOW_SIZE;
+        window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, WINDOW_SIZE);
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            long length = windowStart + window.position();
+            window = null;
+            channel.truncate(length);
+        }
+        finally {
+            file.close();
+        }
+    }
+}
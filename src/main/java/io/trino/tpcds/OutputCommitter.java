@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Commits the output of task attempts the way Hadoop's FileOutputCommitter does. Every attempt writes its files into
+// its own directory under _temporary, and only an attempt that finished moves them into the target directory, so
+// failed and speculative attempts never leave partial files behind. A job that finished writes the _SUCCESS marker
+public class OutputCommitter
+{
+    public static final String TEMPORARY_DIRECTORY = "_temporary";
+    public static final String SUCCESS_MARKER = "_SUCCESS";
+    private static final String COMMITTED_DIRECTORY = "_committed";
+
+    private final FileSystem fileSystem;
+    private final Path targetDirectory;
+
+    public OutputCommitter(FileSystem fileSystem, String targetDirectory)
+    {
+        this.fileSystem = requireNonNull(fileSystem, "fileSystem is null");
+        this.targetDirectory = fileSystem.makeQualified(new Path(requireNonNull(targetDirectory, "targetDirectory is null")));
+    }
+
+    public String getAttemptDirectory(String attemptId)
+    {
+        return new Path(new Path(targetDirectory, TEMPORARY_DIRECTORY), attemptId).toString();
+    }
+
+    // removes what an earlier run of the same attempt left behind
+    public void setupTask(String attemptId)
+            throws IOException
+    {
+        fileSystem.delete(new Path(getAttemptDirectory(attemptId)), true);
+    }
+
+    // called once before any of the tasks run, so that only the files committed by this job count as committed
+    public void setupJob()
+            throws IOException
+    {
+        fileSystem.delete(new Path(targetDirectory, TEMPORARY_DIRECTORY), true);
+    }
+
+    // Moves every file of the attempt to the same relative path in the target directory. Each rename is atomic.
+    // The first attempt to commit a file claims it, by creating its marker under _temporary/_committed, which only
+    // one attempt can do. Only that attempt replaces a file left in the target directory by an earlier job, which it
+    // looks for before the claim, so that it never takes the file of another attempt of this job for one. The rows
+    // of a chunk are always the same, so another attempt of the task drops its copy of a committed file, and only
+    // moves it into place when the file is missing because the attempt that claimed it failed
+    public void commitTask(String attemptId, boolean overwrite)
+            throws IOException
+    {
+        Path attemptDirectory = new Path(getAttemptDirectory(attemptId));
+        if (!fileSystem.exists(attemptDirectory)) {
+            return;
+        }
+        Path committedDirectory = new Path(new Path(targetDirectory, TEMPORARY_DIRECTORY), COMMITTED_DIRECTORY);
+        String attemptPrefix = attemptDirectory.toUri().getPath() + Path.SEPARATOR;
+        RemoteIterator<LocatedFileStatus> files = fileSystem.listFiles(attemptDirectory, true);
+        while (files.hasNext()) {
+            Path file = files.next().getPath();
+            String relativePath = file.toUri().getPath().substring(attemptPrefix.length());
+            Path target = new Path(targetDirectory, relativePath);
+            Path marker = new Path(committedDirectory, relativePath);
+            fileSystem.mkdirs(marker.getParent());
+            boolean earlierFile = fileSystem.exists(target);
+            if (claim(marker)) {
+                if (earlierFile) {
+                    if (!overwrite) {
+                        throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", target));
+                    }
+                    fileSystem.delete(target, false);
+                }
+            }
+            else if (fileSystem.exists(target)) {
+                // committed by another attempt of this job
+                continue;
+            }
+            fileSystem.mkdirs(target.getParent());
+            if (!fileSystem.rename(file, target) && !fileSystem.exists(target)) {
+                throw new TpcdsException(format("Failed to commit %s to %s", file, target));
+            }
+        }
+        fileSystem.delete(attemptDirectory, true);
+    }
+
+    // FileSystem.createNewFile checks that the file does not exist before it creates it, so two attempts could both
+    // claim a file. HDFS fails the creation of a file that exists, and a local file is created with O_EXCL
+    private boolean claim(Path marker)
+            throws IOException
+    {
+        try {
+            if ("file".equals(fileSystem.getUri().getScheme())) {
+                Files.createFile(Paths.get(marker.toUri()));
+            }
+            else {
+                fileSystem.create(marker, false).close();
+            }
+            return true;
+        }
+        catch (FileAlreadyExistsException | org.apache.hadoop.fs.FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    public void abortTask(String attemptId)
+            throws IOException
+    {
+        fileSystem.delete(new Path(getAttemptDirectory(attemptId)), true);
+    }
+
+    // called once all of the tasks are committed
+    public void commitJob()
+            throws IOException
+    {
+        fileSystem.delete(new Path(targetDirectory, TEMPORARY_DIRECTORY), true);
+        fileSystem.create(new Path(targetDirectory, SUCCESS_MARKER), true).close();
+    }
+}
@@ -15,64 +15,136 @@
 package io.trino.tpcds;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.WAREHOUSE;
 import static io.trino.tpcds.type.Date.JULIAN_DATA_START_DATE;
+import static io.trino.tpcds.type.Date.JULIAN_DATE_MINIMUM;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
 
 public final class Parallel
 {
+    // A chunk should take at least this long to generate, so that splitting a table saves more than what the chunk
+    // costs to set up, which is creating the generators, skipping to its first row and opening its file
+    public static final long MINIMUM_CHUNK_NANOS = 1_000_000_000L;
+
+    // Rows of the tables that keep history come in revision groups of 1, 2 and 3 rows that start at a row number
+    // that is 1, 2 or 4 modulo 6 (see SlowlyChangingDimensionUtils.computeScdKey). The later rows of a group copy
+    // columns of the row before them, so these tables are only split before a row that is 1 modulo 6
+    private static final int HISTORY_ROWS_PER_GROUP = 6;
+
     private Parallel() {}
 
     public static ChunkBoundaries splitWork(Table table, Session session)
     {
-        // Tables with fewer than 1000000 are not parallelized. Return no rows for chunks > 1
-        long totalRows = session.getScaling().getRowCount(table);
+        // With a date range only the rows for those dates are generated, and they are split between the chunks
+        // just like the rows of the whole table would be
+        ChunkBoundaries tableRows = session.hasDateRange() ? getRowsForDateRange(table, session.getDateRange(), session.getScaling()) : new ChunkBoundaries(1, session.getScaling().getRowCount(table));
+
+        // The rows are split into as many chunks as are worth it, up to the parallelism. Return no rows for the
+        // chunks after those
+        long totalRows = tableRows.getLastRow() - tableRows.getFirstRow() + 1;
         int chunk = session.getChunkNumber();
-        if (totalRows < 1000000) {
-            if (chunk > 1) {
-                return new ChunkBoundaries(1, 0);
-            }
-            else {
-                return new ChunkBoundaries(1, totalRows);
-            }
+        long chunkCount = min(session.getParallelism(), getMaximumChunks(table, totalRows));
+        if (chunk > chunkCount) {
+            return new ChunkBoundaries(1, 0);
         }
 
-        int parallelism = session.getParallelism();
-        long extraRows = totalRows % parallelism;
-        long rowSetSize = totalRows / parallelism;
+        // the chunks get the same number of row groups, and the first ones one extra group of what is left
+        int rowsPerGroup = getRowsPerGroup(table);
+        long totalGroups = (totalRows + rowsPerGroup - 1) / rowsPerGroup;
+        long extraGroups = totalGroups % chunkCount;
+        long groupSetSize = totalGroups / chunkCount;
 
-        long firstRowOfChunk = 1; // row numbering starts at 1
-        firstRowOfChunk += (chunk - 1) * rowSetSize;
-        if (extraRows != 0 && (chunk - 1) != 0) {
-            // add as many extra rows as there have been
-            firstRowOfChunk += ((chunk - 1) < extraRows) ? (chunk - 1) : extraRows;
-        }
+        long firstGroupOfChunk = (chunk - 1) * groupSetSize + min(chunk - 1, extraGroups);
+        long groupCount = groupSetSize + (chunk <= extraGroups ? 1 : 0);
 
-        long rowCount = rowSetSize;
-        if (extraRows != 0 && chunk <= extraRows) {
-            rowCount += 1;
+        long firstRowOfChunk = tableRows.getFirstRow() + firstGroupOfChunk * rowsPerGroup;
+        long lastRowOfChunk = min(tableRows.getLastRow(), firstRowOfChunk + groupCount * rowsPerGroup - 1);
+        return new ChunkBoundaries(firstRowOfChunk, lastRowOfChunk);
+    }
+
+    // the most chunks the whole table is worth splitting into, whatever the parallelism
+    public static long getMaximumChunks(Table table, Scaling scaling)
+    {
+        return getMaximumChunks(table, scaling.getRowCount(table));
+    }
+
+    private static long getMaximumChunks(Table table, long rows)
+    {
+        int rowsPerGroup = getRowsPerGroup(table);
+        long groups = (rows + rowsPerGroup - 1) / rowsPerGroup;
+        long worthwhileChunks = (long) (SizeEstimates.estimateNanos(table, rows) / MINIMUM_CHUNK_NANOS);
+        return max(1, min(groups, worthwhileChunks));
+    }
+
+    private static int getRowsPerGroup(Table table)
+    {
+        return table.keepsHistory() ? HISTORY_ROWS_PER_GROUP : 1;
+    }
+
+    public static ChunkBoundaries getRowsForDateRange(Table table, DateRange dateRange, Scaling scaling)
+    {
+        long totalRows = scaling.getRowCount(table);
+        long firstRow;
+        long lastRow;
+        switch (table) {
+            case CATALOG_SALES: {
+                if (dateRange.getEndJulianDate() < JULIAN_DATA_START_DATE) {
+                    // every row is sold on or after the first date
+                    return new ChunkBoundaries(1, 0);
+                }
+                // walk the dates the same way CatalogSalesRowGenerator does: a date owns the rows up to and
+                // including its nextDateIndex, which for the first date is one past its own row count
+                long julianDate = JULIAN_DATA_START_DATE;
+                long nextDateIndex = scaling.getRowCountForDate(table, julianDate) + 1;
+                firstRow = 1;
+                while (julianDate < dateRange.getStartJulianDate() && firstRow <= totalRows) {
+                    firstRow = nextDateIndex + 1;
+                    julianDate += 1;
+                    nextDateIndex += scaling.getRowCountForDate(table, julianDate);
+                }
+                while (julianDate < dateRange.getEndJulianDate() && nextDateIndex < totalRows) {
+                    julianDate += 1;
+                    nextDateIndex += scaling.getRowCountForDate(table, julianDate);
+                }
+                lastRow = nextDateIndex;
+                break;
+            }
+            case INVENTORY: {
+                // rows are ordered by week, then warehouse, then item (see InventoryRowGenerator)
+                long rowsPerWeek = scaling.getIdCount(WAREHOUSE) * scaling.getIdCount(ITEM);
+                long firstWeek = max(0, floorDiv(dateRange.getStartJulianDate() - JULIAN_DATE_MINIMUM + 6, 7));
+                long lastWeek = floorDiv(dateRange.getEndJulianDate() - JULIAN_DATE_MINIMUM, 7);
+                firstRow = firstWeek * rowsPerWeek + 1;
+                lastRow = (lastWeek + 1) * rowsPerWeek;
+                break;
+            }
+            default:
+                throw new InvalidOptionException("date-range", dateRange.toString(), format("The rows of %s are not generated in date order", table.getName()));
         }
-        return new ChunkBoundaries(firstRowOfChunk, firstRowOfChunk + rowCount - 1);
+
+        // an empty range starts after the row it ends on
+        firstRow = min(firstRow, totalRows + 1);
+        lastRow = max(min(lastRow, totalRows), firstRow - 1);
+        return new ChunkBoundaries(firstRow, lastRow);
     }
 
-    public static DateNextIndexPair skipDaysUntilFirstRowOfChunk(Table table, Session session)
+    public static DateNextIndexPair skipDaysUntilFirstRowOfChunk(Table table, long firstRowOfChunk, Session session)
     {
-        // set initial conditions
-        long julianDate = JULIAN_DATA_START_DATE;
+        // Move the date forward exactly as a generator that started at the first row would have, so a chunk
+        // sees the same dates as the rows it covers in a single-chunk run
         Scaling scaling = session.getScaling();
-        long index = 1;
-        long newDateIndex = scaling.getRowCountForDate(table, julianDate) + index;
-
-        // move forward one day at a time
-        ChunkBoundaries boundary = splitWork(table, session);
-        while (index < boundary.getFirstRow()) {
-            index += scaling.getRowCountForDate(table, julianDate);
+        long julianDate = JULIAN_DATA_START_DATE;
+        long nextDateIndex = scaling.getRowCountForDate(table, julianDate) + 1;
+        while (firstRowOfChunk > nextDateIndex) {
             julianDate += 1;
-            newDateIndex = index;
-        }
-        if (index > boundary.getFirstRow()) {
-            julianDate -= 1;
+            nextDateIndex += scaling.getRowCountForDate(table, julianDate);
         }
 
-        return new DateNextIndexPair(julianDate, newDateIndex);
+        return new DateNextIndexPair(julianDate, nextDateIndex);
     }
 
     public static class ChunkBoundaries
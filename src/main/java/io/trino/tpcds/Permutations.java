@@ -25,6 +25,10 @@ public final class Permutations
 
     public static int[] makePermutation(int size, RandomNumberStream stream)
     {
+        GenerationEvents.PermutationEvent event = GenerationEvents.ENABLED ? new GenerationEvents.PermutationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
         int[] numberSet = new int[size];
         for (int i = 0; i < numberSet.length; i++) {
             numberSet[i] = i;
@@ -36,6 +40,13 @@ public final class Permutations
             numberSet[i] = numberSet[index];
             numberSet[index] = temp;
         }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.size = size;
+                event.commit();
+            }
+        }
         return numberSet;
     }
 
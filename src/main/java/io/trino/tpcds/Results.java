@@ -16,7 +16,9 @@ package io.trino.tpcds;
 
 import com.google.common.collect.AbstractIterator;
 import io.trino.tpcds.Parallel.ChunkBoundaries;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.TableRow;
+import io.trino.tpcds.row.generator.ColumnProfiler;
 import io.trino.tpcds.row.generator.RowGenerator;
 import io.trino.tpcds.row.generator.RowGeneratorResult;
 
@@ -57,12 +59,12 @@ public class Results
     }
 
     @Override
-    public Iterator<List<List<String>>> iterator()
+    public ResultsIterator iterator()
     {
         return new ResultsIterator(table, startingRowNumber, rowCount, session);
     }
 
-    private static class ResultsIterator
+    public static class ResultsIterator
             extends AbstractIterator<List<List<String>>>
     {
         private final long endingRowNumber;
@@ -72,6 +74,7 @@ public class Results
         private final RowGenerator rowGenerator;
         private final RowGenerator parentRowGenerator;
         private final RowGenerator childRowGenerator;
+        private final int[] projectedPositions;
 
         public ResultsIterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
         {
@@ -80,10 +83,21 @@ public class Results
             checkArgument(startingRowNumber >= 1, "starting row number is less than 1: %s", startingRowNumber);
             checkArgument(endingRowNumber <= session.getScaling().getRowCount(table), "starting row number is greater than the total rows in %s: %s", table, endingRowNumber);
 
+            if (session.isProjected()) {
+                for (Column column : session.getColumns()) {
+                    checkArgument(column.getTable() == table, "column %s does not belong to %s", column.getName(), table.getName());
+                }
+            }
+
             this.table = table;
             this.rowNumber = startingRowNumber;
             this.endingRowNumber = endingRowNumber;
             this.session = session;
+            this.projectedPositions = session.isProjected() ? session.getColumns().stream().mapToInt(Column::getPosition).toArray() : null;
+            GenerationEvents.GeneratorConstructionEvent constructionEvent = GenerationEvents.ENABLED ? new GenerationEvents.GeneratorConstructionEvent() : null;
+            if (constructionEvent != null) {
+                constructionEvent.begin();
+            }
             try {
                 this.rowGenerator = table.getRowGeneratorClass().getDeclaredConstructor().newInstance();
                 this.parentRowGenerator = table.isChild() ? table.getParent().getRowGeneratorClass().getDeclaredConstructor().newInstance() : null;
@@ -92,11 +106,29 @@ public class Results
             catch (NoSuchMethodException | InstantiationException | InvocationTargetException | IllegalAccessException e) {
                 throw new TpcdsException(e.toString());
             }
+            if (constructionEvent != null) {
+                constructionEvent.end();
+                if (constructionEvent.shouldCommit()) {
+                    constructionEvent.table = table.getName();
+                    constructionEvent.chunk = session.getChunkNumber();
+                    constructionEvent.commit();
+                }
+            }
             skipRowsUntilStartingRowNumber(startingRowNumber);
         }
 
+        // the number of the row that is generated next, so all rows before it are complete
+        public long getRowNumber()
+        {
+            return rowNumber;
+        }
+
         private void skipRowsUntilStartingRowNumber(long startingRowNumber)
         {
+            GenerationEvents.SkipRowsEvent event = GenerationEvents.ENABLED ? new GenerationEvents.SkipRowsEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
             rowGenerator.skipRowsUntilStartingRowNumber(startingRowNumber);
             if (parentRowGenerator != null) {
                 parentRowGenerator.skipRowsUntilStartingRowNumber(startingRowNumber);
@@ -104,6 +136,15 @@ public class Results
             if (childRowGenerator != null) {
                 childRowGenerator.skipRowsUntilStartingRowNumber(startingRowNumber);
             }
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.table = table.getName();
+                    event.chunk = session.getChunkNumber();
+                    event.startingRowNumber = startingRowNumber;
+                    event.commit();
+                }
+            }
         }
 
         @Override
@@ -114,7 +155,8 @@ public class Results
             }
 
             RowGeneratorResult result = rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator);
-            List<List<String>> tableRows = result.getRowAndChildRows().stream().map(TableRow::getValues).collect(Collectors.toList());
+            ColumnProfiler.endSection();
+            List<List<String>> tableRows = result.getRowAndChildRows().stream().map(this::getValues).collect(Collectors.toList());
 
             if (result.shouldEndRow()) {
                 rowStop();
@@ -128,6 +170,16 @@ public class Results
             return tableRows;
         }
 
+        private List<String> getValues(TableRow row)
+        {
+            // the random number streams have already been advanced for the whole row, so
+            // only the rendering of the unselected columns is skipped
+            if (projectedPositions == null) {
+                return row.getValues();
+            }
+            return row.getValues(projectedPositions);
+        }
+
         private void rowStop()
         {
             rowGenerator.consumeRemainingSeedsForRow();
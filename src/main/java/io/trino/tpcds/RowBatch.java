@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// A batch of rows of one output file, which is encoded into a single byte array. The batches are pooled by their
+// writer and reused, so the arrays only grow until they fit a batch
+final class RowBatch
+{
+    private final int capacity;
+    private final List<List<String>> rows;
+    private final long[] rowHashes;
+    private final int[] rowLengths;
+    private byte[] bytes = new byte[64 * 1024];
+    private int length;
+    private int encodedRowCount;
+    private long encodingNanos;
+
+    RowBatch(int capacity)
+    {
+        this.capacity = capacity;
+        this.rows = new ArrayList<>(capacity);
+        this.rowHashes = new long[capacity];
+        this.rowLengths = new int[capacity];
+    }
+
+    void add(List<String> values)
+    {
+        rows.add(values);
+    }
+
+    boolean isFull()
+    {
+        return rows.size() >= capacity;
+    }
+
+    boolean isEmpty()
+    {
+        return rows.isEmpty();
+    }
+
+    // formats the rows as TableGenerator.writeResults does, one after the other, and hashes each of them
+    void encode(Session session)
+    {
+        long startNanos = System.nanoTime();
+        length = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            byte[] row = TableGenerator.formatRow(rows.get(i), session).getBytes();
+            if (length + row.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + row.length));
+            }
+            System.arraycopy(row, 0, bytes, length, row.length);
+            length += row.length;
+            rowHashes[i] = XxHash64.hash(row, 0, row.length);
+            rowLengths[i] = row.length;
+        }
+        // the rows are not needed any more, and should not be kept alive by the pool
+        encodedRowCount = rows.size();
+        rows.clear();
+        encodingNanos = System.nanoTime() - startNanos;
+    }
+
+    int getEncodedRowCount()
+    {
+        return encodedRowCount;
+    }
+
+    long getRowHash(int row)
+    {
+        return rowHashes[row];
+    }
+
+    int getRowLength(int row)
+    {
+        return rowLengths[row];
+    }
+
+    byte[] getBytes()
+    {
+        return bytes;
+    }
+
+    int getLength()
+    {
+        return length;
+    }
+
+    long getEncodingNanos()
+    {
+        return encodingNanos;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+// The encoder and writer threads that the rows of the unpartitioned tables are handed to, so that the thread of a
+// chunk only generates rows. A batch is encoded as soon as an encoder thread is free, and written by a writer thread
+// once it is encoded and the batch before it in the same file is written, so the files are written in order. Each
+// file has a fixed pool of batches, and its generator waits for one to be written when all of them are in use
+public class RowPipeline
+        implements Closeable
+{
+    private final int encoderThreads;
+    private final int writerThreads;
+    private final ExecutorService encoders;
+    private final ExecutorService writers;
+    private final AtomicInteger encodeQueueDepth = new AtomicInteger();
+    private final AtomicInteger writeQueueDepth = new AtomicInteger();
+
+    public RowPipeline(int encoderThreads, int writerThreads)
+    {
+        checkArgument(encoderThreads > 0, "encoderThreads must be positive: %s", encoderThreads);
+        checkArgument(writerThreads > 0, "writerThreads must be positive: %s", writerThreads);
+        this.encoderThreads = encoderThreads;
+        this.writerThreads = writerThreads;
+        this.encoders = Executors.newFixedThreadPool(encoderThreads, new ThreadFactoryBuilder().setNameFormat("tpcds-encoder-%d").setDaemon(true).build());
+        this.writers = Executors.newFixedThreadPool(writerThreads, new ThreadFactoryBuilder().setNameFormat("tpcds-writer-%d").setDaemon(true).build());
+    }
+
+    // <encoder threads>,<writer threads>
+    public static RowPipeline parseRowPipeline(String value)
+    {
+        String[] parts = value.split(",");
+        if (parts.length != 2) {
+            throw new InvalidOptionException("pipeline", value, "Expected <encoder threads>,<writer threads>");
+        }
+        try {
+            int encoderThreads = Integer.parseInt(parts[0].trim());
+            int writerThreads = Integer.parseInt(parts[1].trim());
+            if (encoderThreads > 0 && writerThreads > 0) {
+                return new RowPipeline(encoderThreads, writerThreads);
+            }
+        }
+        catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidOptionException("pipeline", value, "The numbers of threads must be positive integers");
+    }
+
+    // Encodes the batch and then writes it after the previous write of the same file. The returned write completes,
+    // successfully or not, only once the batch is no longer used, so it can then be reused
+    CompletableFuture<Void> submit(RowBatch batch, Session session, CompletableFuture<Void> previousWrite, BatchWriter writer)
+    {
+        encodeQueueDepth.incrementAndGet();
+        CompletableFuture<RowBatch> encoded = CompletableFuture.supplyAsync(() -> {
+            try {
+                batch.encode(session);
+                return batch;
+            }
+            finally {
+                encodeQueueDepth.decrementAndGet();
+                writeQueueDepth.incrementAndGet();
+            }
+        }, encoders);
+        return previousWrite.thenAcceptBothAsync(encoded, (previous, encodedBatch) -> {
+            try {
+                writer.write(encodedBatch);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, writers).whenComplete((result, failure) -> writeQueueDepth.decrementAndGet());
+    }
+
+    // the batches submitted and not yet encoded
+    public int getEncodeQueueDepth()
+    {
+        return encodeQueueDepth.get();
+    }
+
+    // the batches encoded and not yet written
+    public int getWriteQueueDepth()
+    {
+        return writeQueueDepth.get();
+    }
+
+    @Override
+    public void close()
+    {
+        encoders.shutdown();
+        writers.shutdown();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format("%d encoder threads, %d writer threads", encoderThreads, writerThreads);
+    }
+
+    interface BatchWriter
+    {
+        void write(RowBatch batch)
+                throws IOException;
+    }
+}
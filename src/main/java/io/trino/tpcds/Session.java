@@ -14,9 +14,13 @@
 
 package io.trino.tpcds;
 
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.column.Column;
 import org.apache.hadoop.fs.FileSystem;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class Session
 {
@@ -42,6 +46,13 @@ public class Session
     private final int parallelism;
     private final int chunkNumber;
     private final boolean overwrite;
+    private final Optional<List<Column>> columns;
+    private final Optional<DateRange> dateRange;
+    private final boolean partitioned;
+    private final List<Bucketing> bucketing;
+    private final List<Sorting> sorting;
+    private final Optional<String> taskAttemptId;
+    private final FileSink fileSink;
 
     public Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, boolean overwrite)
     {
@@ -49,6 +60,11 @@ public class Session
     }
 
     public Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, int chunkNumber, boolean overwrite)
+    {
+        this(scale, targetDirectory, suffix, table, nullString, separator, doNotTerminate, noSexism, parallelism, chunkNumber, overwrite, Optional.empty(), Optional.empty(), false, ImmutableList.of(), ImmutableList.of(), Optional.empty(), FileSink.STREAM);
+    }
+
+    private Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, int chunkNumber, boolean overwrite, Optional<List<Column>> columns, Optional<DateRange> dateRange, boolean partitioned, List<Bucketing> bucketing, List<Sorting> sorting, Optional<String> taskAttemptId, FileSink fileSink)
     {
         this.scaling = new Scaling(scale);
         this.targetDirectory = targetDirectory;
@@ -61,6 +77,13 @@ public class Session
         this.parallelism = parallelism;
         this.chunkNumber = chunkNumber;
         this.overwrite = overwrite;
+        this.columns = columns.map(ImmutableList::copyOf);
+        this.dateRange = dateRange;
+        this.partitioned = partitioned;
+        this.bucketing = ImmutableList.copyOf(bucketing);
+        this.sorting = ImmutableList.copyOf(sorting);
+        this.taskAttemptId = taskAttemptId;
+        this.fileSink = fileSink;
     }
 
     public Session withTable(Table table)
@@ -76,7 +99,14 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
     }
 
     public Session withScale(double scale)
@@ -92,7 +122,14 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
     }
 
     public Session withParallelism(int parallelism)
@@ -108,7 +145,14 @@ public class Session
                 this.noSexism,
                 parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
     }
 
     public Session withChunkNumber(int chunkNumber)
@@ -124,10 +168,178 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withColumns(List<Column> columns)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                Optional.of(columns),
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withDateRange(DateRange dateRange)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                Optional.of(dateRange),
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withPartitioned(boolean partitioned)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withBucketing(List<Bucketing> bucketing)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withSorting(List<Sorting> sorting)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                sorting,
+                this.taskAttemptId,
+                this.fileSink);
+    }
+
+    public Session withTaskAttemptId(String taskAttemptId)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                Optional.of(taskAttemptId),
+                this.fileSink);
+    }
+
+    public Session withFileSink(FileSink fileSink)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                fileSink);
     }
 
-    private static Optional<Table> toTableOptional(String table)
+    static Optional<Table> toTableOptional(String table)
     {
         if (table == null) {
             return Optional.empty();
@@ -169,7 +381,14 @@ public class Session
                 noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.columns,
+                this.dateRange,
+                this.partitioned,
+                this.bucketing,
+                this.sorting,
+                this.taskAttemptId,
+                this.fileSink);
     }
 
     public Scaling getScaling()
@@ -235,6 +454,74 @@ public class Session
         return overwrite;
     }
 
+    public boolean isProjected()
+    {
+        return columns.isPresent();
+    }
+
+    public List<Column> getColumns()
+    {
+        if (!columns.isPresent()) {
+            throw new TpcdsException("columns not present");
+        }
+        return columns.get();
+    }
+
+    public boolean hasDateRange()
+    {
+        return dateRange.isPresent();
+    }
+
+    public DateRange getDateRange()
+    {
+        if (!dateRange.isPresent()) {
+            throw new TpcdsException("date range not present");
+        }
+        return dateRange.get();
+    }
+
+    public boolean isPartitioned()
+    {
+        return partitioned;
+    }
+
+    public boolean isBucketed()
+    {
+        return !bucketing.isEmpty();
+    }
+
+    public Optional<Bucketing> getBucketing(Table table)
+    {
+        return bucketing.stream()
+                .filter(tableBucketing -> tableBucketing.getTable() == table)
+                .findFirst();
+    }
+
+    public Optional<Sorting> getSorting(Table table)
+    {
+        return sorting.stream()
+                .filter(tableSorting -> tableSorting.getTable() == table)
+                .findFirst();
+    }
+
+    public FileSink getFileSink()
+    {
+        return fileSink;
+    }
+
+    public boolean hasTaskAttemptId()
+    {
+        return taskAttemptId.isPresent();
+    }
+
+    public String getTaskAttemptId()
+    {
+        if (!taskAttemptId.isPresent()) {
+            throw new TpcdsException("task attempt id not present");
+        }
+        return taskAttemptId.get();
+    }
+
     public String getCommandLineArguments()
     {
         StringBuilder output = new StringBuilder();
@@ -268,6 +555,23 @@ public class Session
         if (overwrite != DEFAULT_OVERWRITE) {
             output.append("--overwrite ");
         }
+        if (columns.isPresent()) {
+            output.append("--columns ").append(columns.get().stream().map(Column::getName).collect(Collectors.joining(","))).append(" ");
+        }
+        if (dateRange.isPresent()) {
+            output.append("--date-range ").append(dateRange.get()).append(" ");
+        }
+        if (partitioned) {
+            output.append("--partitioned ");
+        }
+        for (Bucketing tableBucketing : bucketing) {
+            output.append("--bucket-by ").append(tableBucketing).append(" ");
+            output.append("--bucket-hash ").append(tableBucketing.getHashFunction().name().toLowerCase()).append(" ");
+        }
+        for (Sorting tableSorting : sorting) {
+            output.append("--sort-by ").append(tableSorting).append(" ");
+            output.append("--sort-memory ").append(tableSorting.getMemoryBudget() / (1024 * 1024)).append(" ");
+        }
 
         // remove trailing space
         if (output.length() > 0) {
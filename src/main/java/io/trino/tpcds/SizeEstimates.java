@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// Estimates of how many bytes the tables take as text files, and how long they take to generate, used to size
+// units of work
+public final class SizeEstimates
+{
+    // Average bytes written per generator row, measured at scale 1 with the default '|' separator. For the sales
+    // and returns tables a generator row is an order, so this covers all of its line items
+    private static final Map<Table, Double> BYTES_PER_ROW = ImmutableMap.<Table, Double>builder()
+            .put(Table.CALL_CENTER, 315.2)
+            .put(Table.CATALOG_PAGE, 139.3)
+            .put(Table.CATALOG_RETURNS, 133.6)
+            .put(Table.CATALOG_SALES, 1849.4)
+            .put(Table.CUSTOMER, 132.1)
+            .put(Table.CUSTOMER_ADDRESS, 110.0)
+            .put(Table.CUSTOMER_DEMOGRAPHICS, 42.0)
+            .put(Table.DATE_DIM, 141.2)
+            .put(Table.HOUSEHOLD_DEMOGRAPHICS, 21.1)
+            .put(Table.INCOME_BAND, 16.4)
+            .put(Table.INVENTORY, 20.1)
+            .put(Table.ITEM, 280.7)
+            .put(Table.PROMOTION, 124.1)
+            .put(Table.REASON, 38.3)
+            .put(Table.SHIP_MODE, 55.7)
+            .put(Table.STORE, 262.9)
+            .put(Table.STORE_RETURNS, 136.3)
+            .put(Table.STORE_SALES, 1618.5)
+            .put(Table.TIME_DIM, 59.1)
+            .put(Table.WAREHOUSE, 117.0)
+            .put(Table.WEB_PAGE, 96.3)
+            .put(Table.WEB_RETURNS, 163.4)
+            .put(Table.WEB_SALES, 2448.0)
+            .put(Table.WEB_SITE, 292.4)
+            .put(Table.DBGEN_VERSION, 74.0)
+            .build();
+
+    // Average nanoseconds of one thread to generate and format a generator row, measured at scale 1 after the JIT
+    // had warmed up. For the sales tables this includes the line items and the returns. The tables with only a few
+    // rows at scale 1 could not be measured apart from the cost of creating their generators, so they are given the
+    // cost of a table with similar columns
+    private static final Map<Table, Double> NANOS_PER_ROW = ImmutableMap.<Table, Double>builder()
+            .put(Table.CALL_CENTER, 20000.0)
+            .put(Table.CATALOG_PAGE, 7800.0)
+            .put(Table.CATALOG_SALES, 482000.0)
+            .put(Table.CUSTOMER, 10900.0)
+            .put(Table.CUSTOMER_ADDRESS, 7700.0)
+            .put(Table.CUSTOMER_DEMOGRAPHICS, 1400.0)
+            .put(Table.DATE_DIM, 7400.0)
+            .put(Table.HOUSEHOLD_DEMOGRAPHICS, 900.0)
+            .put(Table.INCOME_BAND, 3000.0)
+            .put(Table.INVENTORY, 1000.0)
+            .put(Table.ITEM, 20200.0)
+            .put(Table.PROMOTION, 7600.0)
+            .put(Table.REASON, 1500.0)
+            .put(Table.SHIP_MODE, 3000.0)
+            .put(Table.STORE, 20000.0)
+            .put(Table.STORE_SALES, 390000.0)
+            .put(Table.TIME_DIM, 1600.0)
+            .put(Table.WAREHOUSE, 20000.0)
+            .put(Table.WEB_PAGE, 7000.0)
+            .put(Table.WEB_SALES, 424000.0)
+            .put(Table.WEB_SITE, 20000.0)
+            .put(Table.DBGEN_VERSION, 3000.0)
+            .build();
+
+    // what writing a byte of text costs on top of generating it, for a local disk
+    private static final double WRITE_NANOS_PER_BYTE = 1.0;
+
+    private SizeEstimates() {}
+
+    public static double getBytesPerRow(Table table)
+    {
+        Double bytesPerRow = BYTES_PER_ROW.get(table);
+        checkArgument(bytesPerRow != null, "no size estimate for %s", table.getName());
+        return bytesPerRow;
+    }
+
+    public static long estimateBytes(Table table, Scaling scaling)
+    {
+        return (long) (scaling.getRowCount(table) * getBytesPerRow(table));
+    }
+
+    // a parent table is generated together with its child, unless it is generated on its own
+    public static long estimateBytesWithChild(Table table, Scaling scaling)
+    {
+        long bytes = estimateBytes(table, scaling);
+        if (table.hasChild()) {
+            bytes += estimateBytes(table.getChild(), scaling);
+        }
+        return bytes;
+    }
+
+    // a child table is generated from the orders of its parent, so a row of it costs as much as a row of the parent
+    public static double getNanosPerRow(Table table)
+    {
+        Double nanosPerRow = NANOS_PER_ROW.get(table.isChild() ? table.getParent() : table);
+        checkArgument(nanosPerRow != null, "no cost estimate for %s", table.getName());
+        return nanosPerRow;
+    }
+
+    // the nanoseconds of one thread to generate and write rows of the table, with the rows of its child
+    public static double estimateNanos(Table table, long rows)
+    {
+        double bytesPerRow = getBytesPerRow(table);
+        if (table.hasChild()) {
+            bytesPerRow += getBytesPerRow(table.getChild());
+        }
+        return rows * (getNanosPerRow(table) + bytesPerRow * WRITE_NANOS_PER_BYTE);
+    }
+}
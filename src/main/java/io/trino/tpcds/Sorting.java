@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.column.Column;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// The columns that the output files of a table are sorted by, given on the command line as table:column1,column2,...
+// Rows are sorted in ascending order with nulls first. At most memoryBudget bytes of rows are held in memory by
+// each worker before a sorted run is spilled to disk, into the spillDirectory or else java.io.tmpdir. A worker that
+// sorts a parent table and its child at once gives each half of the budget.
+public final class Sorting
+{
+    private final Table table;
+    private final List<Column> columns;
+    private final long memoryBudget;
+    private final Optional<File> spillDirectory;
+
+    public Sorting(Table table, List<Column> columns, long memoryBudget, Optional<File> spillDirectory)
+    {
+        checkArgument(!columns.isEmpty(), "columns is empty");
+        checkArgument(memoryBudget > 0, "memoryBudget must be positive");
+        this.table = table;
+        this.columns = ImmutableList.copyOf(columns);
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = requireNonNull(spillDirectory, "spillDirectory is null");
+    }
+
+    public static Sorting parseSorting(String sorting, long memoryBudget, Optional<File> spillDirectory)
+    {
+        String[] parts = sorting.split(":");
+        if (parts.length != 2) {
+            throw new InvalidOptionException("sort-by", sorting, "Expected <table>:<column1>,<column2>,...");
+        }
+
+        Table table = Session.toTableOptional(parts[0].trim()).get();
+        ImmutableList.Builder<Column> columns = ImmutableList.builder();
+        for (String columnName : parts[1].split(",")) {
+            try {
+                columns.add(table.getColumn(columnName.trim()));
+            }
+            catch (IllegalStateException e) {
+                throw new InvalidOptionException("sort-by", sorting, format("%s is not a column of %s", columnName, table.getName()));
+            }
+        }
+        return new Sorting(table, columns.build(), memoryBudget, spillDirectory);
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    public List<Column> getColumns()
+    {
+        return columns;
+    }
+
+    public long getMemoryBudget()
+    {
+        return memoryBudget;
+    }
+
+    public Optional<File> getSpillDirectory()
+    {
+        return spillDirectory;
+    }
+
+    @Override
+    public String toString()
+    {
+        return table.getName() + ":" + columns.stream().map(Column::getName).collect(Collectors.joining(","));
+    }
+}
@@ -16,14 +16,20 @@ package io.trino.tpcds;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.spark.SparkConf;
+import org.apache.spark.TaskContext;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.api.java.function.Function;
 
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+import static java.lang.String.format;
+
 public class SparkDriver
 {
     public static void usage()
@@ -31,7 +37,8 @@ public class SparkDriver
         System.out.println("spark:   spark-submit --class io.trino.tpcds.Driver --master yarn tpcds-gen.jar OutPath Scale");
         System.out.println("         OutPath:  root directory of location to create data in.");
         System.out.println("         Scale  :  scaleFactor defines the size of the dataset to generate (in GB). default is 1");
-        System.out.println("         Thread :  the parallel thread count for generate data. default is scale.");
+        System.out.println("         Thread :  the number of splits (tasks) of the largest table. The other tables get splits of");
+        System.out.println("                   about the same estimated size. default is scale.");
     }
     public static void main(String[] args) {
         String m_OutPutPath = "";
@@ -73,20 +80,26 @@ public class SparkDriver
             }
         }
 
-        List<Table> tablesToGenerate;
-        tablesToGenerate = Table.getBaseTables();
+        // 每个任务只生成一张表的一个分片，失败或推测执行的任务只需重跑这一个分片
+        List<TableSplit> splits = planSplits(Table.getBaseTables(), new Scaling(m_Scale), m_Thread);
+        System.out.println("Generating " + splits.size() + " splits of " + Table.getBaseTables().size() + " tables.");
 
-        List<String> dataList = new ArrayList<>();
-        for (int i = 1; i <= m_Thread; i++) {
-            dataList.add(String.valueOf(i));
+        // 清理上一次运行留下的临时目录，只有本次提交的文件才算已提交
+        try {
+            new TableGenerator(new Session(m_Scale, m_OutPutPath, ".csv", Optional.empty(), "", '|', false, false, 1, true), true)
+                    .createOutputCommitter()
+                    .setupJob();
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
         }
-        JavaRDD<String> jobs = javaSparkContext.parallelize(dataList, m_Thread);
+
+        JavaRDD<TableSplit> jobs = javaSparkContext.parallelize(splits, splits.size());
         int         finalM_Scale = m_Scale;
         String      finalM_OutPutPath = m_OutPutPath;
-        int finalM_Thread = m_Thread;
         long numTask = jobs.map
                 (
-                        (Function<String, Boolean>) s -> {
+                        (Function<TableSplit, Boolean>) split -> {
                             Session m_JobSession = new Session(
                                     finalM_Scale,
                                     finalM_OutPutPath,
@@ -96,16 +109,107 @@ public class SparkDriver
                                     '|',
                                     false,
                                     false,
-                                    finalM_Thread,
-                                    Integer.parseInt(s),
-                                    true);
+                                    split.getSplitCount(),
+                                    split.getSplit(),
+                                    true)
+                                    .withTaskAttemptId(getTaskAttemptId());
                             TableGenerator tableGenerator = new TableGenerator(m_JobSession, true);
-                            tablesToGenerate.forEach(tableGenerator::generateTable);
+                            tableGenerator.generateTable(split.getTable());
                             return true;
                         }
                 ).count();
         System.out.println("Total " + numTask + " jobs finished.");
+        // 所有任务都已提交，清理临时目录并写入_SUCCESS标记
+        try {
+            new TableGenerator(new Session(m_Scale, m_OutPutPath, ".csv", Optional.empty(), "", '|', false, false, 1, true), true)
+                    .createOutputCommitter()
+                    .commitJob();
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
         //关闭context
         javaSparkContext.close();
     }
+
+    // every attempt of a task, including speculative ones, writes to its own staging directory
+    private static String getTaskAttemptId()
+    {
+        TaskContext taskContext = TaskContext.get();
+        return format("attempt_%d_%d_%d", taskContext.stageId(), taskContext.partitionId(), taskContext.attemptNumber());
+    }
+
+    // The largest table is split into splitsOfLargestTable splits, and every other table into splits of about the
+    // same estimated size, but no more splits than Parallel.splitWork finds the table worth. The largest splits come
+    // first, so that they are not the last tasks to be scheduled
+    static List<TableSplit> planSplits(List<Table> tables, Scaling scaling, int splitsOfLargestTable)
+    {
+        long largestTableBytes = 1;
+        for (Table table : tables) {
+            largestTableBytes = Math.max(largestTableBytes, SizeEstimates.estimateBytesWithChild(table, scaling));
+        }
+        double bytesPerSplit = (double) largestTableBytes / splitsOfLargestTable;
+
+        List<TableSplit> splits = new ArrayList<>();
+        for (Table table : tables) {
+            if (table.isChild()) {
+                // generated together with its parent
+                continue;
+            }
+            long tableBytes = SizeEstimates.estimateBytesWithChild(table, scaling);
+            double splitsBySize = Math.ceil(tableBytes / bytesPerSplit);
+            int splitCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.min(splitsBySize, Parallel.getMaximumChunks(table, scaling))));
+            for (int split = 1; split <= splitCount; split++) {
+                splits.add(new TableSplit(table, split, splitCount, tableBytes / splitCount));
+            }
+        }
+        splits.sort(Comparator.comparingLong(TableSplit::getEstimatedBytes).reversed());
+        return splits;
+    }
+
+    // one task of the job: chunk split of splitCount of the table
+    public static final class TableSplit
+            implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Table table;
+        private final int split;
+        private final int splitCount;
+        private final long estimatedBytes;
+
+        public TableSplit(Table table, int split, int splitCount, long estimatedBytes)
+        {
+            this.table = table;
+            this.split = split;
+            this.splitCount = splitCount;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public Table getTable()
+        {
+            return table;
+        }
+
+        public int getSplit()
+        {
+            return split;
+        }
+
+        public int getSplitCount()
+        {
+            return splitCount;
+        }
+
+        public long getEstimatedBytes()
+        {
+            return estimatedBytes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return table.getName() + " " + split + "/" + splitCount;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.api.java.function.FlatMapFunction;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+// Reads a table straight into Spark as an RDD, without writing text files first. Each partition generates one row
+// range of the table, and the rows hold Java values of the column types. Only the given columns are rendered. For a
+// DataFrame, whose columns Spark prunes itself, use spark.read().format("tpcds") of TpcdsDataSource instead
+public final class SparkTableReader
+{
+    private SparkTableReader() {}
+
+    public static JavaRDD<Object[]> readTable(JavaSparkContext context, Table table, double scale, int partitions, List<Column> columns)
+    {
+        checkArgument(partitions > 0, "partitions must be positive: %s", partitions);
+        for (Column column : columns) {
+            checkArgument(column.getTable() == table, "column %s does not belong to %s", column.getName(), table.getName());
+        }
+
+        List<RowRange> ranges = getRowRanges(table, scale, partitions);
+        List<Column> selectedColumns = ImmutableList.copyOf(columns);
+        return context.parallelize(ranges, Math.max(1, ranges.size()))
+                .flatMap((FlatMapFunction<RowRange, Object[]>) range -> readRows(table, scale, partitions, selectedColumns, range));
+    }
+
+    // the row ranges are the chunks of a parallel build, so tables too small to be split are read by one partition
+    static List<RowRange> getRowRanges(Table table, double scale, int partitions)
+    {
+        List<RowRange> ranges = new ArrayList<>();
+        Session session = createSession(table, scale, partitions, ImmutableList.of());
+        for (int chunk = 1; chunk <= partitions; chunk++) {
+            Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, session.withChunkNumber(chunk));
+            if (boundaries.getFirstRow() <= boundaries.getLastRow()) {
+                ranges.add(new RowRange(boundaries.getFirstRow(), boundaries.getLastRow()));
+            }
+        }
+        return ranges;
+    }
+
+    // the values of the given columns of the rows of the range, null for nulls
+    static Iterator<List<String>> generateRows(Table table, double scale, int partitions, List<Column> columns, RowRange range)
+    {
+        Session session = createSession(table, scale, partitions, columns);
+        Iterator<List<List<String>>> results = Results.constructResults(table, range.firstRow, range.lastRow, session).iterator();
+        return new AbstractIterator<List<String>>()
+        {
+            @Override
+            protected List<String> computeNext()
+            {
+                if (!results.hasNext()) {
+                    return endOfData();
+                }
+                // only this table is generated, so the first row is the row of this table
+                return results.next().get(0);
+            }
+        };
+    }
+
+    public static JavaRDD<Object[]> readTable(JavaSparkContext context, Table table, double scale, int partitions)
+    {
+        return readTable(context, table, scale, partitions, Arrays.asList(table.getColumns()));
+    }
+
+    // the Spark DDL of the rows that readTable returns
+    public static String getSchema(Table table, List<Column> columns)
+    {
+        return columns.stream()
+                .map(column -> column.getName() + " " + getSparkType(column.getType()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Iterator<Object[]> readRows(Table table, double scale, int partitions, List<Column> columns, RowRange range)
+    {
+        ColumnType[] types = columns.stream().map(Column::getType).toArray(ColumnType[]::new);
+        return Iterators.transform(generateRows(table, scale, partitions, columns, range), values -> {
+            Object[] row = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                row[i] = toJavaValue(values.get(i), types[i]);
+            }
+            return row;
+        });
+    }
+
+    private static Session createSession(Table table, double scale, int partitions, List<Column> columns)
+    {
+        // null values stay null instead of being rendered as the null string
+        return new Session(scale, Session.DEFAULT_DIRECTORY, "", Optional.of(table), "", '|', false, false, partitions, 1, false).withColumns(columns);
+    }
+
+    private static Object toJavaValue(String value, ColumnType type)
+    {
+        if (value == null) {
+            return null;
+        }
+        switch (type.getBase()) {
+            case IDENTIFIER:
+                return Long.parseLong(value);
+            case INTEGER:
+                return Integer.parseInt(value);
+            case DATE:
+                return Date.valueOf(value);
+            case DECIMAL:
+                return new BigDecimal(value);
+            case VARCHAR:
+            case CHAR:
+            case TIME:
+                return value;
+            default:
+                throw new TpcdsException(format("Unsupported column type %s", type.getBase()));
+        }
+    }
+
+    private static String getSparkType(ColumnType type)
+    {
+        switch (type.getBase()) {
+            case IDENTIFIER:
+                return "BIGINT";
+            case INTEGER:
+                return "INT";
+            case DATE:
+                return "DATE";
+            case DECIMAL:
+                return format("DECIMAL(%d,%d)", type.getPrecision().get(), type.getScale().get());
+            case VARCHAR:
+            case CHAR:
+            case TIME:
+                return "STRING";
+            default:
+                throw new TpcdsException(format("Unsupported column type %s", type.getBase()));
+        }
+    }
+
+    static final class RowRange
+            implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final long firstRow;
+        private final long lastRow;
+
+        private RowRange(long firstRow, long lastRow)
+        {
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+        }
+    }
+}
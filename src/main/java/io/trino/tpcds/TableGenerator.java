@@ -14,87 +14,437 @@
 
 package io.trino.tpcds;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import io.trino.tpcds.column.Column;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileContext;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Options;
 import org.apache.hadoop.fs.Path;
 
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Table.CATALOG_SALES;
+import static io.trino.tpcds.Table.INVENTORY;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.InventoryColumn.INV_DATE_SK;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.WebSalesColumn.WS_SOLD_DATE_SK;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 public class TableGenerator
 {
+    // the directory name Hive uses for rows whose partition value is null
+    public static final String HIVE_DEFAULT_PARTITION = "__HIVE_DEFAULT_PARTITION__";
+    private static final int MAX_OPEN_PARTITION_FILES = 64;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // every bucket has its own buffer, so they are kept smaller
+    private static final int BUCKET_BUFFER_SIZE = 16 * 1024;
+    // the rows per batch handed to the pipeline, and the batches each file can have in the pipeline at once
+    private static final int PIPELINE_BATCH_ROWS = 4096;
+    private static final int PIPELINE_BATCHES_PER_FILE = 4;
+    private static final int CHANNEL_BUFFER_SIZE = 1024 * 1024;
+
     private final Session session;
     private boolean isSparkEnv;
+    private final boolean discardOutput;
+    private final GenerationMetrics metrics;
+    private final Optional<RowPipeline> pipeline;
 
     public TableGenerator(Session session, boolean isSparkEnv)
+    {
+        this(session, isSparkEnv, false);
+    }
+
+    // with discardOutput the rows are generated, formatted and hashed, but the table files are not written
+    public TableGenerator(Session session, boolean isSparkEnv, boolean discardOutput)
+    {
+        this(session, isSparkEnv, discardOutput, new GenerationMetrics());
+    }
+
+    // the progress of the tables is reported to the metrics, which can be shared by the generators of a run
+    public TableGenerator(Session session, boolean isSparkEnv, boolean discardOutput, GenerationMetrics metrics)
+    {
+        this(session, isSparkEnv, discardOutput, metrics, Optional.empty());
+    }
+
+    // with a pipeline, the rows of the unpartitioned tables are encoded and written by its threads
+    public TableGenerator(Session session, boolean isSparkEnv, boolean discardOutput, GenerationMetrics metrics, Optional<RowPipeline> pipeline)
     {
         this.session = requireNonNull(session, "session is null");
         this.isSparkEnv = isSparkEnv;
+        this.discardOutput = discardOutput;
+        this.metrics = requireNonNull(metrics, "metrics is null");
+        this.pipeline = requireNonNull(pipeline, "pipeline is null");
     }
 
-    public void generateTable(Table table)
+    // returns what was written for the table, and for its child table when it is generated along with it
+    public List<TableOutput> generateTable(Table table)
     {
         // If this is a child table and not the only table being generated, it will be generated when its parent is generated, so move on.
         if (table.isChild() && !session.generateOnlyOneTable()) {
-            return;
+            return ImmutableList.of();
         }
 
-        try
-        {
-            OutputStream parentWriter = addFileWriterForTable(table);
-            OutputStream childWriter = table.hasChild() && !session.generateOnlyOneTable() ? addFileWriterForTable(table.getChild()) : null;
-            Results results = constructResults(table, session);
-            for (List<List<String>> parentAndChildRows : results) {
+        if (!session.hasTaskAttemptId()) {
+            return writeTable(table);
+        }
+
+        // the files are written to the directory of the task attempt, and moved to the target directory once complete
+        String attemptId = session.getTaskAttemptId();
+        try {
+            OutputCommitter committer = createOutputCommitter();
+            committer.setupTask(attemptId);
+            List<TableOutput> outputs;
+            try {
+                outputs = writeTable(table);
+            }
+            catch (RuntimeException e) {
+                committer.abortTask(attemptId);
+                throw e;
+            }
+            committer.commitTask(attemptId, session.shouldOverwrite());
+            return outputs;
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    private List<TableOutput> writeTable(Table table)
+    {
+        Table childTable = table.hasChild() && !session.generateOnlyOneTable() ? table.getChild() : null;
+        // the child rows are generated with the rows of the parent, so they share its row range
+        Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, session);
+        ChunkMetrics parentMetrics = metrics.getChunk(table, session);
+        ChunkMetrics childMetrics = childTable != null ? metrics.getChunk(childTable, session) : null;
+        OutputCounter parentCounter = new OutputCounter(table, parentMetrics);
+        OutputCounter childCounter = childTable != null ? new OutputCounter(childTable, childMetrics) : null;
+        parentMetrics.start();
+        if (childMetrics != null) {
+            childMetrics.start();
+        }
+        GenerationEvents.ChunkEvent chunkEvent = GenerationEvents.ENABLED ? new GenerationEvents.ChunkEvent() : null;
+        if (chunkEvent != null) {
+            chunkEvent.begin();
+        }
+        // the memory budget of sorting is that of the worker, so a parent and a child that are both sorted share it
+        int sorters = (session.getSorting(table).isPresent() ? 1 : 0) + (childTable != null && session.getSorting(childTable).isPresent() ? 1 : 0);
+        long startCpuNanos = getCurrentThreadCpuTime();
+        long startNanos = System.nanoTime();
+        try (TableWriter parentWriter = createTableWriter(table, parentCounter, sorters);
+                TableWriter childWriter = childTable != null ? createTableWriter(childTable, childCounter, sorters) : null) {
+            Results.ResultsIterator iterator = constructResults(table, session).iterator();
+            while (iterator.hasNext()) {
+                List<List<String>> parentAndChildRows = iterator.next();
+                parentMetrics.setRowsGenerated(iterator.getRowNumber() - boundaries.getFirstRow());
                 if (parentAndChildRows.size() > 0) {
-                    writeResults(parentWriter, parentAndChildRows.get(0));
+                    parentWriter.write(parentAndChildRows.get(0));
                 }
                 if (parentAndChildRows.size() > 1) {
                     requireNonNull(childWriter, "childWriter is null, but a child row was produced");
-                    writeResults(childWriter, parentAndChildRows.get(1));
+                    childWriter.write(parentAndChildRows.get(1));
                 }
             }
         }
         catch (IOException e) {
             throw new TpcdsException(e.getMessage());
         }
+        parentMetrics.complete();
+        if (childMetrics != null) {
+            childMetrics.complete();
+        }
+        if (chunkEvent != null) {
+            chunkEvent.end();
+            if (chunkEvent.shouldCommit()) {
+                chunkEvent.table = table.getName();
+                chunkEvent.chunk = session.getChunkNumber();
+                chunkEvent.firstRow = boundaries.getFirstRow();
+                chunkEvent.lastRow = boundaries.getLastRow();
+                chunkEvent.rowsWritten = parentCounter.rowCount;
+                chunkEvent.bytesWritten = parentCounter.byteCount;
+                chunkEvent.commit();
+            }
+        }
+
+        // The CPU time of the encoding is split off in proportion to its share of the elapsed time. The child rows
+        // are generated with the rows of the parent, so only their encoding is counted for the child table. The
+        // time of the encoder threads of a pipeline is added to that of this thread
+        long cpuNanos = getCurrentThreadCpuTime() - startCpuNanos;
+        double cpuPerElapsedNano = (double) cpuNanos / Math.max(1, System.nanoTime() - startNanos);
+        long childCpuNanos = childCounter != null ? (long) (childCounter.encodingNanos * cpuPerElapsedNano) : 0;
+        long parentCpuNanos = cpuNanos - childCpuNanos + parentCounter.pipelinedEncodingNanos;
+        long parentEncodingCpuNanos = (long) (parentCounter.encodingNanos * cpuPerElapsedNano) + parentCounter.pipelinedEncodingNanos;
+        if (childCounter != null) {
+            childCpuNanos += childCounter.pipelinedEncodingNanos;
+        }
+
+        ImmutableList.Builder<TableOutput> outputs = ImmutableList.builder();
+        outputs.add(parentCounter.toTableOutput(boundaries, parentCpuNanos, parentEncodingCpuNanos));
+        if (childCounter != null) {
+            outputs.add(childCounter.toTableOutput(boundaries, childCpuNanos, childCpuNanos));
+        }
+        return outputs.build();
+    }
+
+    private static long getCurrentThreadCpuTime()
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    // writes a file directly into the target directory
+    public void writeTextFile(String fileName, String contents)
+    {
+        try (OutputStream writer = addFileWriter(session.getTargetDirectory() + File.separator + fileName)) {
+            writer.write(contents.getBytes(UTF_8));
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    // Replaces a file in the target directory with a new version. The new version is written to a temporary file
+    // first and renamed over the old one, so that readers see either the old or the new file and never a partial one
+    public void replaceTextFile(String fileName, String contents)
+    {
+        String path = session.getTargetDirectory() + File.separator + fileName;
+        String temporaryPath = session.getTargetDirectory() + File.separator + "." + fileName + ".tmp";
+        try {
+            try (OutputStream writer = addFileWriter(temporaryPath)) {
+                writer.write(contents.getBytes(UTF_8));
+            }
+            if (path.startsWith("hdfs://")) {
+                FileSystem m_fs = getHdfsFileSystem();
+                FileContext.getFileContext(m_fs.getUri(), m_fs.getConf()).rename(new Path(temporaryPath), new Path(path), Options.Rename.OVERWRITE);
+            }
+            else {
+                Files.move(Paths.get(temporaryPath), Paths.get(path), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    // reads a file of the target directory, if it exists
+    public Optional<String> readTextFile(String fileName)
+    {
+        String path = session.getTargetDirectory() + File.separator + fileName;
+        try {
+            if (path.startsWith("hdfs://")) {
+                FileSystem m_fs = getHdfsFileSystem();
+                if (!m_fs.exists(new Path(path))) {
+                    return Optional.empty();
+                }
+                try (InputStream reader = m_fs.open(new Path(path))) {
+                    return Optional.of(new String(ByteStreams.toByteArray(reader), UTF_8));
+                }
+            }
+            if (!Files.exists(Paths.get(path))) {
+                return Optional.empty();
+            }
+            return Optional.of(new String(Files.readAllBytes(Paths.get(path)), UTF_8));
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    public OutputCommitter createOutputCommitter()
+            throws IOException
+    {
+        FileSystem fileSystem = session.getTargetDirectory().startsWith("hdfs://") ? getHdfsFileSystem() : FileSystem.getLocal(new Configuration()).getRaw();
+        return new OutputCommitter(fileSystem, session.getTargetDirectory());
+    }
+
+    private TableWriter createTableWriter(Table table, OutputCounter counter, int sorters)
+            throws IOException
+    {
+        Optional<Sorting> sorting = session.getSorting(table);
+        if (sorting.isPresent()) {
+            int[] keyIndexes = sorting.get().getColumns().stream().mapToInt(this::getValueIndex).toArray();
+            long memoryBudget = sorting.get().getMemoryBudget() / sorters;
+            ExternalSorter sorter = new ExternalSorter(sorting.get().getColumns(), keyIndexes, memoryBudget, sorting.get().getSpillDirectory());
+            return new SortingTableWriter(sorter, createOutputTableWriter(table, counter));
+        }
+        return createOutputTableWriter(table, counter);
+    }
+
+    private TableWriter createOutputTableWriter(Table table, OutputCounter counter)
+            throws IOException
+    {
+        Optional<Column> partitionColumn = session.isPartitioned() ? getPartitionColumn(table) : Optional.empty();
+        Optional<Bucketing> bucketing = session.getBucketing(table);
+        if (!partitionColumn.isPresent() && !bucketing.isPresent()) {
+            if (pipeline.isPresent()) {
+                return new PipelinedTableWriter(pipeline.get(), counter.buffer(addFileWriterForTable(table), WRITE_BUFFER_SIZE), counter);
+            }
+            return new UnpartitionedTableWriter(counter.buffer(addFileWriterForTable(table), WRITE_BUFFER_SIZE), counter);
+        }
+
+        int partitionIndex = partitionColumn.isPresent() ? getValueIndex(partitionColumn.get()) : -1;
+        int bucketIndex = bucketing.isPresent() ? getValueIndex(bucketing.get().getColumn()) : -1;
+
+        // Every bucket file stays open. Of the partitions, catalog_sales and inventory are generated in date order, so
+        // apart from the null partition only the files of the current date are ever written to
+        int bucketFiles = bucketing.map(Bucketing::getBucketCount).orElse(1);
+        int maxOpenFiles = bucketFiles;
+        if (partitionColumn.isPresent()) {
+            maxOpenFiles = table == CATALOG_SALES || table == INVENTORY ? 2 * bucketFiles : Math.max(bucketFiles, MAX_OPEN_PARTITION_FILES);
+        }
+        return new SplitTableWriter(table, partitionColumn, partitionIndex, bucketing, bucketIndex, maxOpenFiles, counter);
+    }
+
+    // the index of a column in the values of a row, which are only the selected columns when the output is projected
+    private int getValueIndex(Column column)
+    {
+        if (!session.isProjected()) {
+            return column.getPosition();
+        }
+        int index = session.getColumns().indexOf(column);
+        if (index == -1) {
+            throw new TpcdsException(format("The column %s is used to split the output and must be one of the selected columns", column.getName()));
+        }
+        return index;
+    }
+
+    // the date column that a fact table is partitioned on, the same one the TPC-DS schema uses
+    public static Optional<Column> getPartitionColumn(Table table)
+    {
+        switch (table) {
+            case STORE_SALES:
+                return Optional.of(SS_SOLD_DATE_SK);
+            case STORE_RETURNS:
+                return Optional.of(SR_RETURNED_DATE_SK);
+            case CATALOG_SALES:
+                return Optional.of(CS_SOLD_DATE_SK);
+            case CATALOG_RETURNS:
+                return Optional.of(CR_RETURNED_DATE_SK);
+            case WEB_SALES:
+                return Optional.of(WS_SOLD_DATE_SK);
+            case WEB_RETURNS:
+                return Optional.of(WR_RETURNED_DATE_SK);
+            case INVENTORY:
+                return Optional.of(INV_DATE_SK);
+            default:
+                return Optional.empty();
+        }
     }
 
     private OutputStream addFileWriterForTable(Table table)
             throws IOException
     {
-        String path = getPath(table);
-        if (path.startsWith("hdfs://"))
+        if (discardOutput) {
+            return ByteStreams.nullOutputStream();
+        }
+        return openTableFile(table, getPath(table), false, getPredictedSize(table));
+    }
+
+    // the bytes of the chunk of the table, by the estimated size of its rows
+    private long getPredictedSize(Table table)
+    {
+        // the child rows are generated with the rows of the parent, so they share its row range
+        Table generatorTable = table.isChild() && !session.generateOnlyOneTable() ? table.getParent() : table;
+        Parallel.ChunkBoundaries boundaries = Parallel.splitWork(generatorTable, session);
+        long rows = Math.max(0, boundaries.getLastRow() - boundaries.getFirstRow() + 1);
+        return (long) (rows * SizeEstimates.getBytesPerRow(table));
+    }
+
+    // opens a file of a table, creating it unless it was written to and closed before
+    private OutputStream openTableFile(Table table, String path, boolean reopen, long predictedSize)
+            throws IOException
+    {
+        GenerationEvents.FileOpenEvent event = GenerationEvents.ENABLED ? new GenerationEvents.FileOpenEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        OutputStream writer = reopen ? reopenFileWriter(path, session.getFileSink()) : addFileWriter(path, session.getFileSink(), predictedSize);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.table = table.getName();
+                event.chunk = session.getChunkNumber();
+                event.path = path;
+                event.reopened = reopen;
+                event.commit();
+            }
+        }
+        return writer;
+    }
+
+    private FileSystem getHdfsFileSystem()
+            throws IOException
+    {
+        Configuration configuration = new Configuration();
+        if (!this.isSparkEnv)
         {
-            Configuration configuration = new Configuration();
-            if (!this.isSparkEnv)
+            // 本地HDFS环境，需要初始化core-site等信息，Spark环境不需要这些
+            String m_HDFSConfPath = System.getenv("HADOOP_CONF_DIR");
+            if (m_HDFSConfPath == null)
             {
-                // 本地HDFS环境，需要初始化core-site等信息，Spark环境不需要这些
-                String m_HDFSConfPath = System.getenv("HADOOP_CONF_DIR");
-                if (m_HDFSConfPath == null)
-                {
-                    throw new TpcdsException("Missed env HADOOP_CONF_DIR. Please make sure set it before launch this.");
-                }
-                String m_ConfFilePath = Paths.get(m_HDFSConfPath,"core-site.xml").toString();
-                File m_ConfFile = new File(m_ConfFilePath);
-                if (!m_ConfFile.exists())
-                {
-                    throw new TpcdsException("Wrong HADOOP_CONF_DIR. core-site.xml does not exist.");
-                }
-                configuration.addResource(new Path(m_ConfFilePath));
-                configuration.set("fs.hdfs.impl", "org.apache.hadoop.hdfs.DistributedFileSystem");
+                throw new TpcdsException("Missed env HADOOP_CONF_DIR. Please make sure set it before launch this.");
             }
-            FileSystem m_fs = FileSystem.get(configuration);
-            if (m_fs == null)
+            String m_ConfFilePath = Paths.get(m_HDFSConfPath,"core-site.xml").toString();
+            File m_ConfFile = new File(m_ConfFilePath);
+            if (!m_ConfFile.exists())
             {
-                throw new TpcdsException("init Hadoop file system failed.");
+                throw new TpcdsException("Wrong HADOOP_CONF_DIR. core-site.xml does not exist.");
             }
+            configuration.addResource(new Path(m_ConfFilePath));
+            configuration.set("fs.hdfs.impl", "org.apache.hadoop.hdfs.DistributedFileSystem");
+        }
+        FileSystem m_fs = FileSystem.get(configuration);
+        if (m_fs == null)
+        {
+            throw new TpcdsException("init Hadoop file system failed.");
+        }
+        return m_fs;
+    }
+
+    private OutputStream addFileWriter(String path)
+            throws IOException
+    {
+        return addFileWriter(path, FileSink.STREAM, 0);
+    }
+
+    // a memory-mapped file is made predictedSize long at first
+    private OutputStream addFileWriter(String path, FileSink fileSink, long predictedSize)
+            throws IOException
+    {
+        if (path.startsWith("hdfs://"))
+        {
+            GenerationEvents.HdfsCreateEvent event = GenerationEvents.ENABLED ? new GenerationEvents.HdfsCreateEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            FileSystem m_fs = getHdfsFileSystem();
             Path m_HdfsPath = new Path(path);
             Path m_HdfsParentPath = m_HdfsPath.getParent();
             if (!m_fs.exists(m_HdfsParentPath))
@@ -117,7 +467,16 @@ public class TableGenerator
                     throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
                 }
             }
-            return m_fs.create(m_HdfsPath).getWrappedStream();
+            OutputStream writer = m_fs.create(m_HdfsPath).getWrappedStream();
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.chunk = session.getChunkNumber();
+                    event.path = path;
+                    event.commit();
+                }
+            }
+            return writer;
         }
         else {
             File file = new File(path);
@@ -135,36 +494,105 @@ public class TableGenerator
                     throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
                 }
             }
+            return openLocalFile(path, fileSink, predictedSize);
+        }
+    }
+
+    private OutputStream reopenFileWriter(String path, FileSink fileSink)
+            throws IOException
+    {
+        if (path.startsWith("hdfs://")) {
+            return getHdfsFileSystem().append(new Path(path)).getWrappedStream();
+        }
+        return openLocalFile(path, fileSink, 0);
+    }
+
+    // Opens a local file to append to. Only the file of an unpartitioned chunk, whose size is predicted, is written
+    // through the sink: the partition and bucket files are many, small, reopened and already buffered by the table
+    // writer, and a direct buffer or a mapped window for each of them would only add up to a lot of memory
+    private static OutputStream openLocalFile(String path, FileSink fileSink, long predictedSize)
+            throws IOException
+    {
+        if (predictedSize <= 0) {
             return new FileOutputStream(path, true);
         }
+        if (fileSink == FileSink.MMAP) {
+            return new MappedFileOutputStream(path, predictedSize);
+        }
+        if (fileSink == FileSink.CHANNEL) {
+            return new ChannelOutputStream(FileChannel.open(Paths.get(path), StandardOpenOption.WRITE, StandardOpenOption.APPEND), CHANNEL_BUFFER_SIZE);
+        }
+        return new FileOutputStream(path, true);
+    }
+
+    // the directory the table files are written to, which is the directory of the task attempt if there is one
+    private String getOutputDirectory()
+    {
+        if (session.hasTaskAttemptId()) {
+            return session.getTargetDirectory() + File.separator + OutputCommitter.TEMPORARY_DIRECTORY + File.separator + session.getTaskAttemptId();
+        }
+        return session.getTargetDirectory();
     }
 
     private String getPath(Table table)
     {
+        return format("%s%s%s%s%s",
+                getOutputDirectory(),
+                File.separator,
+                table.getName(),
+                File.separator,
+                getFileName(table));
+    }
+
+    private String getSplitPath(Table table, Optional<Column> partitionColumn, String partitionValue, int bucket)
+    {
+        StringBuilder path = new StringBuilder()
+                .append(getOutputDirectory())
+                .append(File.separator)
+                .append(table.getName())
+                .append(File.separator);
+        if (partitionColumn.isPresent()) {
+            path.append(partitionColumn.get().getName())
+                    .append('=')
+                    .append(partitionValue != null ? partitionValue : HIVE_DEFAULT_PARTITION)
+                    .append(File.separator);
+        }
+        if (bucket == -1) {
+            return path.append(getFileName(table)).toString();
+        }
+
+        // Hive takes the bucket from the number at the start of the file name, as in 000003_0, and Spark from the
+        // number at the end. Hive expects one file per bucket, which only a run with a parallelism of 1 writes
+        if (session.getBucketing(table).get().getHashFunction() == Bucketing.HashFunction.HIVE) {
+            return path.append(format("%05d_%d", bucket, session.getChunkNumber())).append(session.getSuffix()).toString();
+        }
+        path.append(table.getName());
         if (session.getParallelism() > 1) {
-            return format("%s%s%s%s%s_%d_%d%s",
-                    session.getTargetDirectory(),
-                    File.separator,
-                    table.getName(),
-                    File.separator,
+            path.append(format("_%d_%d", session.getChunkNumber(), session.getParallelism()));
+        }
+        return path.append(format("_%05d", bucket)).append(session.getSuffix()).toString();
+    }
+
+    private String getFileName(Table table)
+    {
+        if (session.getParallelism() > 1) {
+            return format("%s_%d_%d%s",
                     table.getName(),
                     session.getChunkNumber(),
                     session.getParallelism(),
                     session.getSuffix());
         }
-        return format("%s%s%s%s%s%s",
-                session.getTargetDirectory(),
-                File.separator,
-                table.getName(),
-                File.separator,
-                table.getName(),
-                session.getSuffix());
+        return table.getName() + session.getSuffix();
     }
 
-    private void writeResults(OutputStream writer, List<String> values)
+    private void writeResults(OutputStream writer, List<String> values, OutputCounter counter)
             throws IOException
     {
-        writer.write(formatRow(values, session).getBytes());
+        long startNanos = System.nanoTime();
+        byte[] row = formatRow(values, session).getBytes();
+        counter.add(row);
+        writer.write(row);
+        counter.encodingNanos += System.nanoTime() - startNanos;
     }
 
     public static String formatRow(List<String> values, Session session)
@@ -185,4 +613,372 @@ public class TableGenerator
         stringBuilder.append('\n');
         return stringBuilder.toString();
     }
+
+    private interface TableWriter
+            extends Closeable
+    {
+        void write(List<String> values)
+                throws IOException;
+    }
+
+    private class UnpartitionedTableWriter
+            implements TableWriter
+    {
+        private final OutputStream writer;
+        private final OutputCounter counter;
+
+        private UnpartitionedTableWriter(OutputStream writer, OutputCounter counter)
+        {
+            this.writer = writer;
+            this.counter = counter;
+        }
+
+        @Override
+        public void write(List<String> values)
+                throws IOException
+        {
+            writeResults(writer, values, counter);
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            writer.close();
+        }
+    }
+
+    // Hands the rows to the threads of the pipeline in batches. The batches are written in order, so the file is the
+    // same as the one UnpartitionedTableWriter writes. The last write is waited for when the file is closed, and a
+    // failed write fails the next batch, so that the chunk does not go on generating rows that cannot be written
+    private class PipelinedTableWriter
+            implements TableWriter
+    {
+        private final RowPipeline pipeline;
+        private final OutputStream writer;
+        private final OutputCounter counter;
+        private final BlockingQueue<RowBatch> freeBatches = new ArrayBlockingQueue<>(PIPELINE_BATCHES_PER_FILE);
+        private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+        private RowBatch batch;
+        // the failure of a write was thrown already, and is not thrown again by close
+        private boolean failed;
+
+        private PipelinedTableWriter(RowPipeline pipeline, OutputStream writer, OutputCounter counter)
+        {
+            this.pipeline = pipeline;
+            this.writer = writer;
+            this.counter = counter;
+            for (int i = 0; i < PIPELINE_BATCHES_PER_FILE; i++) {
+                freeBatches.add(new RowBatch(PIPELINE_BATCH_ROWS));
+            }
+        }
+
+        @Override
+        public void write(List<String> values)
+                throws IOException
+        {
+            if (batch == null) {
+                batch = takeFreeBatch();
+            }
+            batch.add(values);
+            if (batch.isFull()) {
+                submitBatch();
+            }
+        }
+
+        private RowBatch takeFreeBatch()
+                throws IOException
+        {
+            try {
+                return freeBatches.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the pipeline");
+            }
+        }
+
+        private void submitBatch()
+                throws IOException
+        {
+            if (lastWrite.isCompletedExceptionally()) {
+                failed = true;
+                waitForLastWrite();
+            }
+            RowBatch submitted = batch;
+            batch = null;
+            lastWrite = pipeline.submit(submitted, session, lastWrite, this::writeBatch);
+            lastWrite.whenComplete((result, failure) -> freeBatches.add(submitted));
+        }
+
+        // runs in a writer thread, after the previous batch was written
+        private void writeBatch(RowBatch encoded)
+                throws IOException
+        {
+            writer.write(encoded.getBytes(), 0, encoded.getLength());
+            for (int i = 0; i < encoded.getEncodedRowCount(); i++) {
+                counter.add(encoded.getRowHash(i), encoded.getRowLength(i));
+            }
+            counter.pipelinedEncodingNanos += encoded.getEncodingNanos();
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            try {
+                if (!failed) {
+                    if (batch != null && !batch.isEmpty()) {
+                        submitBatch();
+                    }
+                    waitForLastWrite();
+                }
+            }
+            finally {
+                writer.close();
+            }
+        }
+
+        private void waitForLastWrite()
+                throws IOException
+        {
+            try {
+                lastWrite.join();
+            }
+            catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Sorts all of the rows before they are passed on. Because the rows reach the output writer in sorted order,
+    // every file it writes, including each partition and bucket file, is sorted.
+    private static class SortingTableWriter
+            implements TableWriter
+    {
+        private final ExternalSorter sorter;
+        private final TableWriter writer;
+
+        private SortingTableWriter(ExternalSorter sorter, TableWriter writer)
+        {
+            this.sorter = sorter;
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(List<String> values)
+                throws IOException
+        {
+            sorter.add(values);
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            try (TableWriter output = writer) {
+                sorter.finish(output::write);
+            }
+        }
+    }
+
+    // Writes each row to the file of its partition and/or bucket. The partition column itself is not written, as in
+    // any Hive-style layout. Only the most recently used files are kept open; a file that was closed to make room
+    // for another is appended to when it is needed again.
+    private class SplitTableWriter
+            implements TableWriter
+    {
+        private final Table table;
+        private final Optional<Column> partitionColumn;
+        private final int partitionIndex;
+        private final Optional<Bucketing> bucketing;
+        private final int bucketIndex;
+        private final Set<String> createdPaths = new HashSet<>();
+        private final LinkedHashMap<String, OutputStream> openWriters;
+        private final OutputCounter counter;
+
+        private SplitTableWriter(Table table, Optional<Column> partitionColumn, int partitionIndex, Optional<Bucketing> bucketing, int bucketIndex, int maxOpenFiles, OutputCounter counter)
+        {
+            this.counter = counter;
+            this.table = table;
+            this.partitionColumn = partitionColumn;
+            this.partitionIndex = partitionIndex;
+            this.bucketing = bucketing;
+            this.bucketIndex = bucketIndex;
+            this.openWriters = new LinkedHashMap<String, OutputStream>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OutputStream> eldest)
+                {
+                    if (size() <= maxOpenFiles) {
+                        return false;
+                    }
+                    try {
+                        eldest.getValue().close();
+                    }
+                    catch (IOException e) {
+                        throw new TpcdsException(e.getMessage());
+                    }
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public void write(List<String> values)
+                throws IOException
+        {
+            int bucket = bucketing.isPresent() ? bucketing.get().getBucket(values.get(bucketIndex)) : -1;
+            if (!partitionColumn.isPresent()) {
+                writeResults(getWriter(null, bucket), values, counter);
+                return;
+            }
+
+            List<String> rowValues = new ArrayList<>(values);
+            String partitionValue = rowValues.remove(partitionIndex);
+            writeResults(getWriter(partitionValue, bucket), rowValues, counter);
+        }
+
+        private OutputStream getWriter(String partitionValue, int bucket)
+                throws IOException
+        {
+            String path = getSplitPath(table, partitionColumn, partitionValue, bucket);
+            OutputStream writer = openWriters.get(path);
+            if (writer == null) {
+                if (discardOutput) {
+                    writer = ByteStreams.nullOutputStream();
+                }
+                else {
+                    // the size of a partition or bucket file is not predicted
+                    writer = openTableFile(table, path, !createdPaths.add(path), 0);
+                }
+                writer = counter.buffer(writer, bucketing.isPresent() ? BUCKET_BUFFER_SIZE : WRITE_BUFFER_SIZE);
+                openWriters.put(path, writer);
+            }
+            return writer;
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            for (OutputStream writer : openWriters.values()) {
+                writer.close();
+            }
+            openWriters.clear();
+        }
+    }
+
+    // counts the rows and bytes written for a table, and hashes them
+    private class OutputCounter
+    {
+        private final Table table;
+        private final ChunkMetrics chunkMetrics;
+        private long rowCount;
+        private long byteCount;
+        private long checksum;
+        private long contentHash;
+        private long encodingNanos;
+        // the time the rows spent being encoded by the threads of the pipeline
+        private long pipelinedEncodingNanos;
+
+        private OutputCounter(Table table, ChunkMetrics chunkMetrics)
+        {
+            this.table = table;
+            this.chunkMetrics = chunkMetrics;
+        }
+
+        // buffers the writes to a file, and times how long each buffer takes to write out
+        private OutputStream buffer(OutputStream writer, int bufferSize)
+        {
+            return new BufferedOutputStream(new TimedOutputStream(writer, chunkMetrics), bufferSize);
+        }
+
+        private void add(byte[] row)
+        {
+            add(XxHash64.hash(row, 0, row.length), row.length);
+        }
+
+        private void add(long rowHash, int rowLength)
+        {
+            checksum = XxHash64.combineOrdered(checksum, rowHash);
+            contentHash += rowHash;
+            rowCount++;
+            byteCount += rowLength;
+            chunkMetrics.setWritten(rowCount, byteCount);
+        }
+
+        private TableOutput toTableOutput(Parallel.ChunkBoundaries boundaries, long cpuNanos, long encodingCpuNanos)
+        {
+            return new TableOutput(table, session.getChunkNumber(), session.getParallelism(), boundaries.getFirstRow(), boundaries.getLastRow(), rowCount, byteCount, checksum, contentHash, cpuNanos, encodingCpuNanos);
+        }
+    }
+
+    // Records the latency of every write, which are whole buffers as the stream is only written to by a
+    // BufferedOutputStream, as a flush of the chunk
+    private static class TimedOutputStream
+            extends FilterOutputStream
+    {
+        private final ChunkMetrics chunkMetrics;
+
+        private TimedOutputStream(OutputStream out, ChunkMetrics chunkMetrics)
+        {
+            super(out);
+            this.chunkMetrics = chunkMetrics;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+                throws IOException
+        {
+            GenerationEvents.FlushEvent event = GenerationEvents.ENABLED ? new GenerationEvents.FlushEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            long startNanos = System.nanoTime();
+            out.write(bytes, offset, length);
+            chunkMetrics.recordFlush(System.nanoTime() - startNanos);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.table = chunkMetrics.getTable();
+                    event.chunk = chunkMetrics.getChunk();
+                    event.bytes = length;
+                    event.commit();
+                }
+            }
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            GenerationEvents.FileCloseEvent event = GenerationEvents.ENABLED ? new GenerationEvents.FileCloseEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            super.close();
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.table = chunkMetrics.getTable();
+                    event.chunk = chunkMetrics.getChunk();
+                    event.commit();
+                }
+            }
+        }
+
+        @Override
+        public void write(int b)
+                throws IOException
+        {
+            out.write(b);
+        }
+    }
 }
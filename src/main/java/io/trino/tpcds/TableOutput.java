@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import static java.util.Objects.requireNonNull;
+
+// What TableGenerator wrote for one table of a chunk, across all of the files of the table
+public class TableOutput
+{
+    private final Table table;
+    private final int chunkNumber;
+    private final int parallelism;
+    private final long firstRow;
+    private final long lastRow;
+    private final long rowCount;
+    private final long byteCount;
+    private final long checksum;
+    private final long contentHash;
+    private final long cpuNanos;
+    private final long encodingCpuNanos;
+
+    public TableOutput(Table table, int chunkNumber, int parallelism, long firstRow, long lastRow, long rowCount, long byteCount, long checksum, long contentHash)
+    {
+        this(table, chunkNumber, parallelism, firstRow, lastRow, rowCount, byteCount, checksum, contentHash, 0, 0);
+    }
+
+    public TableOutput(Table table, int chunkNumber, int parallelism, long firstRow, long lastRow, long rowCount, long byteCount, long checksum, long contentHash, long cpuNanos, long encodingCpuNanos)
+    {
+        this.table = requireNonNull(table, "table is null");
+        this.chunkNumber = chunkNumber;
+        this.parallelism = parallelism;
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+        this.checksum = checksum;
+        this.contentHash = contentHash;
+        this.cpuNanos = cpuNanos;
+        this.encodingCpuNanos = encodingCpuNanos;
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    public int getChunkNumber()
+    {
+        return chunkNumber;
+    }
+
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    // the rows of the chunk, which are orders for the sales and returns tables
+    public long getFirstRow()
+    {
+        return firstRow;
+    }
+
+    public long getLastRow()
+    {
+        return lastRow;
+    }
+
+    // the number of rows written
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    public long getByteCount()
+    {
+        return byteCount;
+    }
+
+    // a hash of the rows in the order they were written
+    public long getChecksum()
+    {
+        return checksum;
+    }
+
+    // The sum of the xxHash64 of each row. It does not depend on the order of the rows, so the content hashes of
+    // the chunks of a table add up to the same value however the table was split
+    public long getContentHash()
+    {
+        return contentHash;
+    }
+
+    // The CPU time of the thread while it generated the chunk. For a child table generated with its parent, the
+    // generation of its rows is counted for the parent, so this is only the encoding of its rows
+    public long getCpuNanos()
+    {
+        return cpuNanos;
+    }
+
+    // The part of the CPU time spent formatting, hashing and writing the rows. It is estimated from the share of
+    // the elapsed time spent on this, as measuring the CPU time of every row would cost more than the encoding
+    public long getEncodingCpuNanos()
+    {
+        return encodingCpuNanos;
+    }
+}
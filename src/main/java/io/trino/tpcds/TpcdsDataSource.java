@@ -0,0 +1,324 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
+import org.apache.spark.sql.connector.catalog.SupportsRead;
+import org.apache.spark.sql.connector.catalog.TableCapability;
+import org.apache.spark.sql.connector.catalog.TableProvider;
+import org.apache.spark.sql.connector.expressions.Transform;
+import org.apache.spark.sql.connector.read.Batch;
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.connector.read.Scan;
+import org.apache.spark.sql.connector.read.ScanBuilder;
+import org.apache.spark.sql.connector.read.SupportsPushDownRequiredColumns;
+import org.apache.spark.sql.sources.DataSourceRegister;
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.types.StructField;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+// The "tpcds" format of Spark, which generates a table when it is read instead of reading files:
+//
+//     spark.read().format("tpcds").option("scale", 1000).load("store_sales").write().parquet(...)
+//
+// Each partition generates one row range of the table, as SparkTableReader does, into InternalRows. Spark pushes the
+// columns the query needs down to the scan, and only those are rendered. The options are scale (default 1) and
+// partitions (default one per tpcds.split.bytes of TpcdsInputFormat of estimated text, at most the chunks the table
+// is worth). The table is the path of load, or the table option
+public class TpcdsDataSource
+        implements TableProvider, DataSourceRegister
+{
+    public static final String SHORT_NAME = "tpcds";
+    public static final String TABLE = "table";
+    public static final String PATH = "path";
+    public static final String SCALE = "scale";
+    public static final String PARTITIONS = "partitions";
+
+    @Override
+    public String shortName()
+    {
+        return SHORT_NAME;
+    }
+
+    @Override
+    public StructType inferSchema(CaseInsensitiveStringMap options)
+    {
+        Table table = getTable(options);
+        return getSchema(table, Arrays.asList(table.getColumns()));
+    }
+
+    @Override
+    public org.apache.spark.sql.connector.catalog.Table getTable(StructType schema, Transform[] partitioning, Map<String, String> properties)
+    {
+        CaseInsensitiveStringMap options = new CaseInsensitiveStringMap(properties);
+        return new TpcdsTable(getTable(options), getScale(options));
+    }
+
+    private static Table getTable(CaseInsensitiveStringMap options)
+    {
+        String name = options.containsKey(TABLE) ? options.get(TABLE) : options.get(PATH);
+        if (name == null) {
+            throw new InvalidOptionException(TABLE, "", "Expected a table, e.g. load(\"store_sales\")");
+        }
+        return Session.toTableOptional(name.trim()).get();
+    }
+
+    private static double getScale(CaseInsensitiveStringMap options)
+    {
+        String scale = options.getOrDefault(SCALE, "1");
+        try {
+            return Double.parseDouble(scale);
+        }
+        catch (NumberFormatException e) {
+            throw new InvalidOptionException(SCALE, scale, "Expected a number");
+        }
+    }
+
+    private static StructType getSchema(Table table, List<Column> columns)
+    {
+        // a query that needs no columns, e.g. a count, still reads every row
+        return columns.isEmpty() ? new StructType() : StructType.fromDDL(SparkTableReader.getSchema(table, columns));
+    }
+
+    private static class TpcdsTable
+            implements SupportsRead
+    {
+        private final Table table;
+        private final double scale;
+
+        private TpcdsTable(Table table, double scale)
+        {
+            this.table = table;
+            this.scale = scale;
+        }
+
+        @Override
+        public String name()
+        {
+            return table.getName();
+        }
+
+        @Override
+        public StructType schema()
+        {
+            return getSchema(table, Arrays.asList(table.getColumns()));
+        }
+
+        @Override
+        public Set<TableCapability> capabilities()
+        {
+            return ImmutableSet.of(TableCapability.BATCH_READ);
+        }
+
+        @Override
+        public ScanBuilder newScanBuilder(CaseInsensitiveStringMap options)
+        {
+            return new TpcdsScan(table, scale, getPartitions(table, scale, options));
+        }
+
+        private static int getPartitions(Table table, double scale, CaseInsensitiveStringMap options)
+        {
+            if (options.containsKey(PARTITIONS)) {
+                int partitions = options.getInt(PARTITIONS, 0);
+                if (partitions <= 0) {
+                    throw new InvalidOptionException(PARTITIONS, options.get(PARTITIONS), "Expected a positive number");
+                }
+                return partitions;
+            }
+            // like the splits of TpcdsInputFormat, a table is not split into more chunks than it is worth
+            Scaling scaling = new Scaling(scale);
+            long tableBytes = SizeEstimates.estimateBytes(table, scaling);
+            long partitionsBySize = (tableBytes + TpcdsInputFormat.DEFAULT_SPLIT_BYTES - 1) / TpcdsInputFormat.DEFAULT_SPLIT_BYTES;
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.min(partitionsBySize, Parallel.getMaximumChunks(table, scaling))));
+        }
+    }
+
+    // the scan builder and the scan, as the columns are all that is pushed down
+    private static class TpcdsScan
+            implements ScanBuilder, SupportsPushDownRequiredColumns, Scan, Batch
+    {
+        private final Table table;
+        private final double scale;
+        private final int partitions;
+        private List<Column> columns;
+
+        private TpcdsScan(Table table, double scale, int partitions)
+        {
+            this.table = table;
+            this.scale = scale;
+            this.partitions = partitions;
+            this.columns = ImmutableList.copyOf(table.getColumns());
+        }
+
+        @Override
+        public void pruneColumns(StructType requiredSchema)
+        {
+            ImmutableList.Builder<Column> requiredColumns = ImmutableList.builder();
+            for (StructField field : requiredSchema.fields()) {
+                requiredColumns.add(table.getColumn(field.name()));
+            }
+            columns = requiredColumns.build();
+        }
+
+        @Override
+        public Scan build()
+        {
+            return this;
+        }
+
+        @Override
+        public StructType readSchema()
+        {
+            return getSchema(table, columns);
+        }
+
+        @Override
+        public String description()
+        {
+            return format("tpcds %s scale %s, %d partitions", table.getName(), scale, partitions);
+        }
+
+        @Override
+        public Batch toBatch()
+        {
+            return this;
+        }
+
+        @Override
+        public InputPartition[] planInputPartitions()
+        {
+            return SparkTableReader.getRowRanges(table, scale, partitions).stream()
+                    .map(RowRangePartition::new)
+                    .toArray(InputPartition[]::new);
+        }
+
+        @Override
+        public PartitionReaderFactory createReaderFactory()
+        {
+            return new TpcdsReaderFactory(table, scale, partitions, columns);
+        }
+    }
+
+    private static final class RowRangePartition
+            implements InputPartition
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final SparkTableReader.RowRange range;
+
+        private RowRangePartition(SparkTableReader.RowRange range)
+        {
+            this.range = range;
+        }
+    }
+
+    private static final class TpcdsReaderFactory
+            implements PartitionReaderFactory
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Table table;
+        private final double scale;
+        private final int partitions;
+        private final List<Column> columns;
+
+        private TpcdsReaderFactory(Table table, double scale, int partitions, List<Column> columns)
+        {
+            this.table = table;
+            this.scale = scale;
+            this.partitions = partitions;
+            this.columns = columns;
+        }
+
+        @Override
+        public PartitionReader<InternalRow> createReader(InputPartition partition)
+        {
+            SparkTableReader.RowRange range = ((RowRangePartition) partition).range;
+            Iterator<List<String>> rows = SparkTableReader.generateRows(table, scale, partitions, columns, range);
+            ColumnType[] types = columns.stream().map(Column::getType).toArray(ColumnType[]::new);
+            return new PartitionReader<InternalRow>()
+            {
+                private InternalRow row;
+
+                @Override
+                public boolean next()
+                {
+                    if (!rows.hasNext()) {
+                        return false;
+                    }
+                    List<String> values = rows.next();
+                    Object[] row = new Object[types.length];
+                    for (int i = 0; i < types.length; i++) {
+                        row[i] = toInternalValue(values.get(i), types[i]);
+                    }
+                    this.row = new GenericInternalRow(row);
+                    return true;
+                }
+
+                @Override
+                public InternalRow get()
+                {
+                    return row;
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+    }
+
+    // the values of the Spark types of SparkTableReader.getSchema, in the form that Spark holds them internally
+    private static Object toInternalValue(String value, ColumnType type)
+    {
+        if (value == null) {
+            return null;
+        }
+        switch (type.getBase()) {
+            case IDENTIFIER:
+                return Long.parseLong(value);
+            case INTEGER:
+                return Integer.parseInt(value);
+            case DATE:
+                return (int) LocalDate.parse(value).toEpochDay();
+            case DECIMAL:
+                return Decimal.apply(new BigDecimal(value), type.getPrecision().get(), type.getScale().get());
+            case VARCHAR:
+            case CHAR:
+            case TIME:
+                return UTF8String.fromString(value);
+            default:
+                throw new TpcdsException(format("Unsupported column type %s", type.getBase()));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.FileSplit;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// An InputFormat that generates the rows of a table instead of reading files, so that Hive or MapReduce can load
+// TPC-DS data without text files on HDFS. Each split is a row range of the table, sized by tpcds.split.bytes of
+// estimated output. The values are the rows in the text format, '|' separated, with nulls as empty fields. In Hive:
+//
+//     CREATE EXTERNAL TABLE tpcds_store_sales (...) ROW FORMAT DELIMITED FIELDS TERMINATED BY '|'
+//         STORED AS INPUTFORMAT 'io.trino.tpcds.TpcdsInputFormat'
+//         OUTPUTFORMAT 'org.apache.hadoop.hive.ql.io.HiveIgnoreKeyTextOutputFormat' LOCATION '<any empty directory>';
+//     SET tpcds.table=store_sales;
+//     SET tpcds.scale=1000;
+//     SET hive.input.format=org.apache.hadoop.hive.ql.io.HiveInputFormat;
+//     INSERT OVERWRITE TABLE store_sales SELECT * FROM tpcds_store_sales;
+public class TpcdsInputFormat
+        implements InputFormat<LongWritable, Text>
+{
+    public static final String TABLE = "tpcds.table";
+    public static final String SCALE = "tpcds.scale";
+    public static final String SPLIT_BYTES = "tpcds.split.bytes";
+
+    public static final long DEFAULT_SPLIT_BYTES = 256L * 1024 * 1024;
+
+    @Override
+    public InputSplit[] getSplits(JobConf job, int numSplits)
+            throws IOException
+    {
+        Table table = getTable(job);
+        double scale = getScale(job);
+        long splitBytes = job.getLong(SPLIT_BYTES, DEFAULT_SPLIT_BYTES);
+        if (splitBytes <= 0) {
+            throw new InvalidOptionException(SPLIT_BYTES, Long.toString(splitBytes), "Expected a positive number of bytes");
+        }
+
+        // the splits are the chunks of a parallel build, so a table is not split into more chunks than it is worth
+        Scaling scaling = new Scaling(scale);
+        long tableBytes = SizeEstimates.estimateBytes(table, scaling);
+        long splitsBySize = (tableBytes + splitBytes - 1) / splitBytes;
+        int splitCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.min(splitsBySize, Parallel.getMaximumChunks(table, scaling))));
+
+        // Hive finds the table of a split by its path, so the splits point to the location of the table
+        Path[] inputPaths = FileInputFormat.getInputPaths(job);
+        Path path = inputPaths.length > 0 ? inputPaths[0] : new Path(table.getName());
+
+        Session session = createSession(table, scale, splitCount, 1);
+        List<InputSplit> splits = new ArrayList<>();
+        for (int chunk = 1; chunk <= splitCount; chunk++) {
+            Parallel.ChunkBoundaries boundaries = Parallel.splitWork(table, session.withChunkNumber(chunk));
+            if (boundaries.getFirstRow() <= boundaries.getLastRow()) {
+                splits.add(new TableSplit(path, table, boundaries.getFirstRow(), boundaries.getLastRow(), tableBytes / splitCount));
+            }
+        }
+        return splits.toArray(new InputSplit[0]);
+    }
+
+    @Override
+    public RecordReader<LongWritable, Text> getRecordReader(InputSplit split, JobConf job, Reporter reporter)
+    {
+        TableSplit tableSplit = (TableSplit) split;
+        return new TableRecordReader(tableSplit, createSession(tableSplit.getTable(), getScale(job), 1, 1));
+    }
+
+    private static Table getTable(JobConf job)
+    {
+        String table = job.get(TABLE);
+        if (table == null) {
+            throw new InvalidOptionException(TABLE, "", "The table to generate must be set");
+        }
+        return Session.toTableOptional(table.trim()).get();
+    }
+
+    private static double getScale(JobConf job)
+    {
+        String scale = job.get(SCALE, "1");
+        try {
+            double value = Double.parseDouble(scale);
+            if (value > 0) {
+                return value;
+            }
+        }
+        catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidOptionException(SCALE, scale, "Expected a positive scale factor");
+    }
+
+    private static Session createSession(Table table, double scale, int parallelism, int chunk)
+    {
+        return new Session(scale, Session.DEFAULT_DIRECTORY, "", Optional.of(table), "", '|', true, false, parallelism, chunk, false);
+    }
+
+    // The rows firstRow..lastRow of a table. For the sales and returns tables these are orders, like the chunks of
+    // Parallel.splitWork. It is a FileSplit with the path of the table, as Hive expects one, and the estimated size
+    public static class TableSplit
+            extends FileSplit
+    {
+        private Table table;
+        private long firstRow;
+        private long lastRow;
+
+        // used by Hadoop to deserialize the split
+        public TableSplit()
+        {
+            super(null, 0, 0, new String[0]);
+        }
+
+        public TableSplit(Path path, Table table, long firstRow, long lastRow, long estimatedBytes)
+        {
+            super(path, 0, estimatedBytes, new String[0]);
+            this.table = table;
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+        }
+
+        public Table getTable()
+        {
+            return table;
+        }
+
+        public long getFirstRow()
+        {
+            return firstRow;
+        }
+
+        public long getLastRow()
+        {
+            return lastRow;
+        }
+
+        @Override
+        public void write(DataOutput out)
+                throws IOException
+        {
+            super.write(out);
+            Text.writeString(out, table.name());
+            out.writeLong(firstRow);
+            out.writeLong(lastRow);
+        }
+
+        @Override
+        public void readFields(DataInput in)
+                throws IOException
+        {
+            super.readFields(in);
+            table = Table.valueOf(Text.readString(in));
+            firstRow = in.readLong();
+            lastRow = in.readLong();
+        }
+
+        @Override
+        public String toString()
+        {
+            return table.getName() + ":" + firstRow + "-" + lastRow;
+        }
+    }
+
+    // The key is the number of the row in the split, counting from 0
+    private static class TableRecordReader
+            implements RecordReader<LongWritable, Text>
+    {
+        private final Session session;
+        private final Iterator<List<List<String>>> results;
+        private final long estimatedBytes;
+        private long rows;
+        private long bytes;
+
+        private TableRecordReader(TableSplit split, Session session)
+        {
+            this.session = session;
+            this.results = Results.constructResults(split.getTable(), split.getFirstRow(), split.getLastRow(), session).iterator();
+            this.estimatedBytes = Math.max(1, split.getLength());
+        }
+
+        @Override
+        public boolean next(LongWritable key, Text value)
+        {
+            if (!results.hasNext()) {
+                return false;
+            }
+            // only this table is generated, so the first row is the row of this table
+            byte[] row = TableGenerator.formatRow(results.next().get(0), session).getBytes(UTF_8);
+            // the row is without its line terminator
+            value.set(row, 0, row.length - 1);
+            key.set(rows++);
+            bytes += row.length;
+            return true;
+        }
+
+        @Override
+        public LongWritable createKey()
+        {
+            return new LongWritable();
+        }
+
+        @Override
+        public Text createValue()
+        {
+            return new Text();
+        }
+
+        @Override
+        public long getPos()
+        {
+            return bytes;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        public float getProgress()
+        {
+            return Math.min(1.0f, (float) bytes / estimatedBytes);
+        }
+    }
+}
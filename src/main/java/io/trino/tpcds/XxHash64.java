@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import static java.lang.Long.rotateLeft;
+
+// The 64 bit xxHash (XXH64) of https://github.com/Cyan4973/xxHash, with seed 0
+public final class XxHash64
+{
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private XxHash64() {}
+
+    public static long hash(byte[] input, int offset, int length)
+    {
+        int end = offset + length;
+        int position = offset;
+        long hash;
+        if (length >= 32) {
+            long v1 = PRIME64_1 + PRIME64_2;
+            long v2 = PRIME64_2;
+            long v3 = 0;
+            long v4 = -PRIME64_1;
+            int limit = end - 32;
+            do {
+                v1 = round(v1, getLong(input, position));
+                v2 = round(v2, getLong(input, position + 8));
+                v3 = round(v3, getLong(input, position + 16));
+                v4 = round(v4, getLong(input, position + 24));
+                position += 32;
+            }
+            while (position <= limit);
+
+            hash = rotateLeft(v1, 1) + rotateLeft(v2, 7) + rotateLeft(v3, 12) + rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        }
+        else {
+            hash = PRIME64_5;
+        }
+        hash += length;
+
+        while (position + 8 <= end) {
+            hash ^= round(0, getLong(input, position));
+            hash = rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+            position += 8;
+        }
+        if (position + 4 <= end) {
+            hash ^= (getInt(input, position) & 0xFFFFFFFFL) * PRIME64_1;
+            hash = rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+            position += 4;
+        }
+        while (position < end) {
+            hash ^= (input[position] & 0xFF) * PRIME64_5;
+            hash = rotateLeft(hash, 11) * PRIME64_1;
+            position++;
+        }
+        return avalanche(hash);
+    }
+
+    // Folds a value into a running hash, so that the result depends on the order of the values
+    public static long combineOrdered(long hash, long value)
+    {
+        return rotateLeft(hash, 27) * PRIME64_1 + round(0, value);
+    }
+
+    private static long round(long accumulator, long input)
+    {
+        accumulator += input * PRIME64_2;
+        accumulator = rotateLeft(accumulator, 31);
+        return accumulator * PRIME64_1;
+    }
+
+    private static long mergeRound(long accumulator, long value)
+    {
+        accumulator ^= round(0, value);
+        return accumulator * PRIME64_1 + PRIME64_4;
+    }
+
+    private static long avalanche(long hash)
+    {
+        hash ^= hash >>> 33;
+        hash *= PRIME64_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME64_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private static long getLong(byte[] input, int position)
+    {
+        return (input[position] & 0xFFL)
+                | (input[position + 1] & 0xFFL) << 8
+                | (input[position + 2] & 0xFFL) << 16
+                | (input[position + 3] & 0xFFL) << 24
+                | (input[position + 4] & 0xFFL) << 32
+                | (input[position + 5] & 0xFFL) << 40
+                | (input[position + 6] & 0xFFL) << 48
+                | (input[position + 7] & 0xFFL) << 56;
+    }
+
+    private static int getInt(byte[] input, int position)
+    {
+        return (input[position] & 0xFF)
+                | (input[position + 1] & 0xFF) << 8
+                | (input[position + 2] & 0xFF) << 16
+                | (input[position + 3] & 0xFF) << 24;
+    }
+}
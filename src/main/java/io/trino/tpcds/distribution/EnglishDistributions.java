@@ -14,6 +14,7 @@
 
 package io.trino.tpcds.distribution;
 
+import com.google.common.collect.ImmutableMap;
 import io.trino.tpcds.random.RandomNumberStream;
 
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
@@ -30,6 +31,16 @@ public final class EnglishDistributions
     public static final StringValuesDistribution SYLLABLES_DISTRIBUTION = buildStringValuesDistribution("syllables.dst", 1, 1);
     private static final StringValuesDistribution TERMINATORS_DISTRIBUTION = buildStringValuesDistribution("terminators.dst", 1, 1);
     private static final StringValuesDistribution VERBS_DISTRIBUTION = buildStringValuesDistribution("verbs.dst", 1, 1);
+    public static final SentenceGrammar SENTENCE_GRAMMAR = new SentenceGrammar(SENTENCES_DISTRIBUTION, ImmutableMap.<Character, StringValuesDistribution>builder()
+            .put('N', NOUNS_DISTRIBUTION)
+            .put('V', VERBS_DISTRIBUTION)
+            .put('J', ADJECTIVES_DISTRIBUTION)
+            .put('D', ADVERBS_DISTRIBUTION)
+            .put('X', AUXILIARIES_DISTRIBUTION)
+            .put('P', PREPOSITIONS_DISTRIBUTION)
+            .put('A', ARTICLES_DISTRIBUTION)
+            .put('T', TERMINATORS_DISTRIBUTION)
+            .build());
 
     private EnglishDistributions() {}
 
@@ -0,0 +1,228 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.distribution;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.random.RandomNumberStream;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * A compiled form of the sentence distribution. Each sentence form is parsed once into
+ * an array of tokens and the words for each part of speech are stored as byte slices,
+ * so that text is written straight into a reusable per-thread buffer. Random numbers are
+ * drawn in exactly the same order as picking a sentence form and then picking a word for
+ * each part of speech character, which is what dsdgen does.
+ */
+public final class SentenceGrammar
+{
+    private final WordList sentenceForms;
+    private final int[][] sentenceTokens;
+    private final WordList[] partsOfSpeech;
+    private final ThreadLocal<TextBuffer> buffers = ThreadLocal.withInitial(TextBuffer::new);
+
+    // Tokens >= 0 are literal characters (punctuation and white space).
+    // Tokens < 0 refer to the part of speech at index (-token - 1).
+    SentenceGrammar(StringValuesDistribution sentences, Map<Character, StringValuesDistribution> partsOfSpeechBySymbol)
+    {
+        this.sentenceForms = new WordList(sentences);
+
+        ImmutableMap.Builder<Character, Integer> symbolIndexesBuilder = ImmutableMap.builder();
+        this.partsOfSpeech = new WordList[partsOfSpeechBySymbol.size()];
+        int index = 0;
+        for (Map.Entry<Character, StringValuesDistribution> entry : partsOfSpeechBySymbol.entrySet()) {
+            partsOfSpeech[index] = new WordList(entry.getValue());
+            symbolIndexesBuilder.put(entry.getKey(), index);
+            index++;
+        }
+        ImmutableMap<Character, Integer> symbolIndexes = symbolIndexesBuilder.build();
+
+        this.sentenceTokens = new int[sentences.getSize()][];
+        for (int i = 0; i < sentences.getSize(); i++) {
+            String syntax = sentences.getValueAtIndex(0, i);
+            checkState(!syntax.isEmpty(), "Empty sentence form at index %s", i);
+            int[] tokens = new int[syntax.length()];
+            for (int j = 0; j < syntax.length(); j++) {
+                char symbol = syntax.charAt(j);
+                Integer partOfSpeechIndex = symbolIndexes.get(symbol);
+                tokens[j] = partOfSpeechIndex != null ? -partOfSpeechIndex - 1 : checkAscii(symbol, syntax);
+            }
+            sentenceTokens[i] = tokens;
+        }
+    }
+
+    public String generateText(int targetLength, RandomNumberStream stream)
+    {
+        TextBuffer buffer = buffers.get();
+        buffer.reset();
+
+        boolean isSentenceBeginning = true;
+        while (targetLength > 0) {
+            int start = buffer.length();
+            appendRandomSentence(buffer, stream);
+            if (isSentenceBeginning) {
+                buffer.capitalize(start);
+            }
+
+            int generatedLength = buffer.length() - start;
+            isSentenceBeginning = (buffer.lastByte() == '.');
+
+            // truncate so as not to exceed target length
+            if (targetLength < generatedLength) {
+                buffer.truncate(start + targetLength);
+            }
+
+            targetLength -= generatedLength;
+            if (targetLength > 0) {
+                buffer.append((byte) ' ');
+                targetLength -= 1;
+            }
+        }
+
+        return buffer.toString();
+    }
+
+    private void appendRandomSentence(TextBuffer buffer, RandomNumberStream stream)
+    {
+        int[] tokens = sentenceTokens[sentenceForms.pickRandomIndex(stream)];
+        for (int token : tokens) {
+            if (token >= 0) {
+                buffer.append((byte) token);
+            }
+            else {
+                WordList words = partsOfSpeech[-token - 1];
+                buffer.append(words.getWord(words.pickRandomIndex(stream)));
+            }
+        }
+    }
+
+    private static int checkAscii(char value, String source)
+    {
+        checkState(value < 0x80, "Non-ASCII character in sentence grammar: %s", source);
+        return value;
+    }
+
+    private static final class WordList
+    {
+        private final byte[][] words;
+        private final int[] cumulativeWeights;
+
+        private WordList(StringValuesDistribution distribution)
+        {
+            int size = distribution.getSize();
+            this.words = new byte[size][];
+            this.cumulativeWeights = new int[size];
+            int totalWeight = 0;
+            for (int i = 0; i < size; i++) {
+                String word = distribution.getValueAtIndex(0, i);
+                for (int j = 0; j < word.length(); j++) {
+                    checkAscii(word.charAt(j), word);
+                }
+                words[i] = word.getBytes(ISO_8859_1);
+                totalWeight += distribution.getWeightForIndex(i, 0);
+                cumulativeWeights[i] = totalWeight;
+            }
+        }
+
+        private byte[] getWord(int index)
+        {
+            return words[index];
+        }
+
+        // Same draw as DistributionUtils.pickRandomIndex, but with a binary search over the
+        // cumulative weights: the first index whose cumulative weight is >= the drawn weight.
+        private int pickRandomIndex(RandomNumberStream stream)
+        {
+            int weight = generateUniformRandomInt(1, cumulativeWeights[cumulativeWeights.length - 1], stream);
+            int low = 0;
+            int high = cumulativeWeights.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulativeWeights[middle] < weight) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class TextBuffer
+    {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        private void reset()
+        {
+            length = 0;
+        }
+
+        private int length()
+        {
+            return length;
+        }
+
+        private byte lastByte()
+        {
+            return bytes[length - 1];
+        }
+
+        private void append(byte value)
+        {
+            ensureCapacity(length + 1);
+            bytes[length++] = value;
+        }
+
+        private void append(byte[] values)
+        {
+            ensureCapacity(length + values.length);
+            System.arraycopy(values, 0, bytes, length, values.length);
+            length += values.length;
+        }
+
+        private void capitalize(int position)
+        {
+            byte value = bytes[position];
+            if (value >= 'a' && value <= 'z') {
+                bytes[position] = (byte) (value - 'a' + 'A');
+            }
+        }
+
+        private void truncate(int newLength)
+        {
+            length = newLength;
+        }
+
+        private void ensureCapacity(int capacity)
+        {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return new String(bytes, 0, length, ISO_8859_1);
+        }
+    }
+}
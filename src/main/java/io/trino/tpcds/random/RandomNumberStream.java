@@ -22,6 +22,9 @@ public interface RandomNumberStream
 
     void skipRows(long numberOfRows);
 
+    // moves the stream forward as if numberOfSeeds random numbers had been drawn from it
+    void skipSeeds(int numberOfSeeds);
+
     void resetSeed();
 
     int getSeedsUsed();
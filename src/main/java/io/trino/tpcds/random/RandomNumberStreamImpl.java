@@ -90,6 +90,23 @@ public class RandomNumberStreamImpl
         seedsUsed = 0;
     }
 
+    @Override
+    public void skipSeeds(int numberOfSeeds)
+    {
+        long numberOfValuesToSkip = numberOfSeeds;
+        long nextSeed = seed;
+        long multiplier = MULTIPLIER;
+        while (numberOfValuesToSkip > 0) {
+            if (numberOfValuesToSkip % 2 != 0) { // n is odd
+                nextSeed = (multiplier * nextSeed) % Integer.MAX_VALUE;
+            }
+            numberOfValuesToSkip = numberOfValuesToSkip / 2;
+            multiplier = (multiplier * multiplier) % Integer.MAX_VALUE;
+        }
+        seed = nextSeed;
+        seedsUsed += numberOfSeeds;
+    }
+
     @Override
     public void resetSeed()
     {
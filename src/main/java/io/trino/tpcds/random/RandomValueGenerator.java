@@ -20,15 +20,7 @@ import io.trino.tpcds.type.Date;
 import io.trino.tpcds.type.Decimal;
 
 import static io.trino.tpcds.distribution.CalendarDistribution.getWeightForDayNumber;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomAdjective;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomAdverb;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomArticle;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomAuxiliary;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomNoun;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomPreposition;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomSentence;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomTerminator;
-import static io.trino.tpcds.distribution.EnglishDistributions.pickRandomVerb;
+import static io.trino.tpcds.distribution.EnglishDistributions.SENTENCE_GRAMMAR;
 import static io.trino.tpcds.distribution.TopDomainsDistribution.pickRandomTopDomain;
 import static io.trino.tpcds.type.Date.fromJulianDays;
 import static io.trino.tpcds.type.Date.getDaysInYear;
@@ -210,72 +202,8 @@ public final class RandomValueGenerator
 
     public static String generateRandomText(int minLength, int maxLength, RandomNumberStream stream)
     {
-        boolean isSentenceBeginning = true;
-        StringBuilder text = new StringBuilder();
         int targetLength = generateUniformRandomInt(minLength, maxLength, stream);
-
-        while (targetLength > 0) {
-            String generated = generateRandomSentence(stream);
-            if (isSentenceBeginning) {
-                generated = generated.substring(0, 1).toUpperCase() + generated.substring(1);
-            }
-
-            int generatedLength = generated.length();
-            isSentenceBeginning = (generated.charAt(generatedLength - 1) == '.');
-
-            // truncate so as not to exceed target length
-            if (targetLength < generatedLength) {
-                generated = generated.substring(0, targetLength);
-            }
-
-            targetLength -= generatedLength;
-
-            text.append(generated);
-            if (targetLength > 0) {
-                text.append(" ");
-                targetLength -= 1;
-            }
-        }
-
-        return text.toString();
-    }
-
-    private static String generateRandomSentence(RandomNumberStream stream)
-    {
-        StringBuilder verbiage = new StringBuilder();
-        String syntax = pickRandomSentence(stream);
-        for (int i = 0; i < syntax.length(); i++) {
-            switch (syntax.charAt(i)) {
-                case 'N':
-                    verbiage.append(pickRandomNoun(stream));
-                    break;
-                case 'V':
-                    verbiage.append(pickRandomVerb(stream));
-                    break;
-                case 'J':
-                    verbiage.append(pickRandomAdjective(stream));
-                    break;
-                case 'D':
-                    verbiage.append(pickRandomAdverb(stream));
-                    break;
-                case 'X':
-                    verbiage.append(pickRandomAuxiliary(stream));
-                    break;
-                case 'P':
-                    verbiage.append(pickRandomPreposition(stream));
-                    break;
-                case 'A':
-                    verbiage.append(pickRandomArticle(stream));
-                    break;
-                case 'T':
-                    verbiage.append(pickRandomTerminator(stream));
-                    break;
-                default:
-                    verbiage.append(syntax.charAt(i));  // this is for adding punctuation and white space.
-                    break;
-            }
-        }
-        return verbiage.toString();
+        return SENTENCE_GRAMMAR.generateText(targetLength, stream);
     }
 
     public static String generateWord(long seed, int maxChars, StringValuesDistribution distribution)
@@ -14,12 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CALL_CENTER;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_ADDRESS;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_ID;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_SK;
@@ -274,6 +276,128 @@ public class CallCenterRow
                 getStringOrNull(ccTaxPercentage, CC_TAX_PERCENTAGE));
     }
 
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CALL_CENTER)) {
+            case 0:
+                return isNullKey(ccCallCenterSk, CC_CALL_CENTER_SK);
+            case 1:
+                return isNull(CC_CALL_CENTER_ID);
+            case 2:
+                return isNullDate(ccRecStartDateId, CC_REC_START_DATE_ID);
+            case 3:
+                return isNullDate(ccRecEndDateId, CC_REC_END_DATE_ID);
+            case 4:
+                return isNullKey(ccClosedDateId, CC_CLOSED_DATE_ID);
+            case 5:
+                return isNullKey(ccOpenDateId, CC_OPEN_DATE_ID);
+            case 6:
+                return isNull(CC_NAME);
+            case 7:
+                return isNull(CC_CLASS);
+            case 8:
+                return isNull(CC_EMPLOYEES);
+            case 9:
+                return isNull(CC_SQ_FT);
+            case 10:
+                return isNull(CC_HOURS);
+            case 11:
+                return isNull(CC_MANAGER);
+            case 12:
+                return isNull(CC_MARKET_ID);
+            case 13:
+                return isNull(CC_MARKET_CLASS);
+            case 14:
+                return isNull(CC_MARKET_DESC);
+            case 15:
+                return isNull(CC_MARKET_MANAGER);
+            case 16:
+                return isNull(CC_DIVISION);
+            case 17:
+                return isNull(CC_DIVISION_NAME);
+            case 18:
+                return isNull(CC_COMPANY);
+            case 19:
+                return isNull(CC_COMPANY_NAME);
+            case 20:
+                return isNull(CC_STREET_NUMBER);
+            case 21:
+                return isNull(CC_STREET_NAME);
+            case 22:
+                return isNull(CC_STREET_TYPE);
+            case 23:
+                return isNull(CC_SUITE_NUMBER);
+            case 24:
+                return isNull(CC_CITY);
+            case 25:
+                return isNull(CC_ADDRESS);
+            case 26:
+                return isNull(CC_STATE);
+            case 27:
+                return isNull(CC_ZIP);
+            case 28:
+                return isNull(CC_COUNTRY);
+            case 29:
+                return isNull(CC_GMT_OFFSET);
+            case 30:
+                return isNull(CC_TAX_PERCENTAGE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CALL_CENTER)) {
+            case 0:
+                return ccCallCenterSk;
+            case 4:
+                return ccClosedDateId;
+            case 5:
+                return ccOpenDateId;
+            case 8:
+                return ccEmployees;
+            case 9:
+                return ccSqFt;
+            case 12:
+                return ccMarketId;
+            case 16:
+                return ccDivisionId;
+            case 18:
+                return ccCompany;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, CALL_CENTER)) {
+            case 29:
+                return toUnscaled(ccAddress.getGmtOffset(), column);
+            case 30:
+                return toUnscaled(ccTaxPercentage, column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, CALL_CENTER)) {
+            case 2:
+                return ccRecStartDateId;
+            case 3:
+                return ccRecEndDateId;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
+
     public static class Builder
     {
         private long ccCallCenterSk;
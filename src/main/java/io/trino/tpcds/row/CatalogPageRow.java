@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CATALOG_PAGE;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_NUMBER;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_ID;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_NUMBER;
@@ -76,4 +79,50 @@ public class CatalogPageRow
                 getStringOrNull(cpDescription, CP_DESCRIPTION),
                 getStringOrNull(cpType, CP_TYPE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CATALOG_PAGE)) {
+            case 0:
+                return isNullKey(cpCatalogPageSk, CP_CATALOG_PAGE_SK);
+            case 1:
+                return isNull(CP_CATALOG_PAGE_ID);
+            case 2:
+                return isNullKey(cpStartDateId, CP_START_DATE_ID);
+            case 3:
+                return isNullKey(cpEndDateId, CP_END_DATE_ID);
+            case 4:
+                return isNull(CP_DEPARTMENT);
+            case 5:
+                return isNull(CP_CATALOG_NUMBER);
+            case 6:
+                return isNull(CP_CATALOG_PAGE_NUMBER);
+            case 7:
+                return isNull(CP_DESCRIPTION);
+            case 8:
+                return isNull(CP_TYPE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CATALOG_PAGE)) {
+            case 0:
+                return cpCatalogPageSk;
+            case 2:
+                return cpStartDateId;
+            case 3:
+                return cpEndDateId;
+            case 5:
+                return cpCatalogNumber;
+            case 6:
+                return cpCatalogPageNumber;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.CatalogReturnsColumn;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CATALOG_RETURNS;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CALL_CENTER_SK;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CATALOG_PAGE_SK;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_ITEM_SK;
@@ -50,6 +53,8 @@ import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WAREHOUS
 public class CatalogReturnsRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, CatalogReturnsColumn.values().length).toArray();
+
     private final long crReturnedDateSk;
     private final long crReturnedTimeSk;
     private final long crItemSk;
@@ -113,32 +118,210 @@ public class CatalogReturnsRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK),
-                getStringOrNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK),
-                getStringOrNullForKey(crItemSk, CR_ITEM_SK),
-                getStringOrNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(crCallCenterSk, CR_CALL_CENTER_SK),
-                getStringOrNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK),
-                getStringOrNullForKey(crShipModeSk, CR_SHIP_MODE_SK),
-                getStringOrNullForKey(crWarehouseSk, CR_WAREHOUSE_SK),
-                getStringOrNullForKey(crReasonSk, CR_REASON_SK),
-                getStringOrNull(crOrderNumber, CR_ORDER_NUMBER),
-                getStringOrNull(crPricing.getQuantity(), CR_PRICING_QUANTITY),
-                getStringOrNull(crPricing.getNetPaid(), CR_PRICING_NET_PAID),
-                getStringOrNull(crPricing.getExtTax(), CR_PRICING_EXT_TAX),
-                getStringOrNull(crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(crPricing.getFee(), CR_PRICING_FEE),
-                getStringOrNull(crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH),
-                getStringOrNull(crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT),
-                getStringOrNull(crPricing.getNetLoss(), CR_PRICING_NET_LOSS));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(crItemSk, CR_ITEM_SK);
+            case 3:
+                return getStringOrNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK);
+            case 4:
+                return getStringOrNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK);
+            case 5:
+                return getStringOrNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK);
+            case 7:
+                return getStringOrNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK);
+            case 8:
+                return getStringOrNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK);
+            case 9:
+                return getStringOrNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK);
+            case 10:
+                return getStringOrNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK);
+            case 11:
+                return getStringOrNullForKey(crCallCenterSk, CR_CALL_CENTER_SK);
+            case 12:
+                return getStringOrNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK);
+            case 13:
+                return getStringOrNullForKey(crShipModeSk, CR_SHIP_MODE_SK);
+            case 14:
+                return getStringOrNullForKey(crWarehouseSk, CR_WAREHOUSE_SK);
+            case 15:
+                return getStringOrNullForKey(crReasonSk, CR_REASON_SK);
+            case 16:
+                return getStringOrNull(crOrderNumber, CR_ORDER_NUMBER);
+            case 17:
+                return getStringOrNull(crPricing.getQuantity(), CR_PRICING_QUANTITY);
+            case 18:
+                return getStringOrNull(crPricing.getNetPaid(), CR_PRICING_NET_PAID);
+            case 19:
+                return getStringOrNull(crPricing.getExtTax(), CR_PRICING_EXT_TAX);
+            case 20:
+                return getStringOrNull(crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX);
+            case 21:
+                return getStringOrNull(crPricing.getFee(), CR_PRICING_FEE);
+            case 22:
+                return getStringOrNull(crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST);
+            case 23:
+                return getStringOrNull(crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH);
+            case 24:
+                return getStringOrNull(crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE);
+            case 25:
+                return getStringOrNull(crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT);
+            case 26:
+                return getStringOrNull(crPricing.getNetLoss(), CR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CATALOG_RETURNS)) {
+            case 0:
+                return isNullKey(crReturnedDateSk, CR_RETURNED_DATE_SK);
+            case 1:
+                return isNullKey(crReturnedTimeSk, CR_RETURNED_TIME_SK);
+            case 2:
+                return isNullKey(crItemSk, CR_ITEM_SK);
+            case 3:
+                return isNullKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK);
+            case 4:
+                return isNullKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK);
+            case 5:
+                return isNullKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK);
+            case 6:
+                return isNullKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK);
+            case 7:
+                return isNullKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK);
+            case 8:
+                return isNullKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK);
+            case 9:
+                return isNullKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK);
+            case 10:
+                return isNullKey(crReturningAddrSk, CR_RETURNING_ADDR_SK);
+            case 11:
+                return isNullKey(crCallCenterSk, CR_CALL_CENTER_SK);
+            case 12:
+                return isNullKey(crCatalogPageSk, CR_CATALOG_PAGE_SK);
+            case 13:
+                return isNullKey(crShipModeSk, CR_SHIP_MODE_SK);
+            case 14:
+                return isNullKey(crWarehouseSk, CR_WAREHOUSE_SK);
+            case 15:
+                return isNullKey(crReasonSk, CR_REASON_SK);
+            case 16:
+                return isNull(CR_ORDER_NUMBER);
+            case 17:
+                return isNull(CR_PRICING_QUANTITY);
+            case 18:
+                return isNull(CR_PRICING_NET_PAID);
+            case 19:
+                return isNull(CR_PRICING_EXT_TAX);
+            case 20:
+                return isNull(CR_PRICING_NET_PAID_INC_TAX);
+            case 21:
+                return isNull(CR_PRICING_FEE);
+            case 22:
+                return isNull(CR_PRICING_EXT_SHIP_COST);
+            case 23:
+                return isNull(CR_PRICING_REFUNDED_CASH);
+            case 24:
+                return isNull(CR_PRICING_REVERSED_CHARGE);
+            case 25:
+                return isNull(CR_PRICING_STORE_CREDIT);
+            case 26:
+                return isNull(CR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CATALOG_RETURNS)) {
+            case 0:
+                return crReturnedDateSk;
+            case 1:
+                return crReturnedTimeSk;
+            case 2:
+                return crItemSk;
+            case 3:
+                return crRefundedCustomerSk;
+            case 4:
+                return crRefundedCdemoSk;
+            case 5:
+                return crRefundedHdemoSk;
+            case 6:
+                return crRefundedAddrSk;
+            case 7:
+                return crReturningCustomerSk;
+            case 8:
+                return crReturningCdemoSk;
+            case 9:
+                return crReturningHdemoSk;
+            case 10:
+                return crReturningAddrSk;
+            case 11:
+                return crCallCenterSk;
+            case 12:
+                return crCatalogPageSk;
+            case 13:
+                return crShipModeSk;
+            case 14:
+                return crWarehouseSk;
+            case 15:
+                return crReasonSk;
+            case 16:
+                return crOrderNumber;
+            case 17:
+                return crPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, CATALOG_RETURNS)) {
+            case 18:
+                return toUnscaled(crPricing.getNetPaid(), column);
+            case 19:
+                return toUnscaled(crPricing.getExtTax(), column);
+            case 20:
+                return toUnscaled(crPricing.getNetPaidIncludingTax(), column);
+            case 21:
+                return toUnscaled(crPricing.getFee(), column);
+            case 22:
+                return toUnscaled(crPricing.getExtShipCost(), column);
+            case 23:
+                return toUnscaled(crPricing.getRefundedCash(), column);
+            case 24:
+                return toUnscaled(crPricing.getReversedCharge(), column);
+            case 25:
+                return toUnscaled(crPricing.getStoreCredit(), column);
+            case 26:
+                return toUnscaled(crPricing.getNetLoss(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 }
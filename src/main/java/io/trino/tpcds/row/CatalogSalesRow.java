@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.CatalogSalesColumn;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CATALOG_SALES;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CDEMO_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CUSTOMER_SK;
@@ -57,6 +60,8 @@ import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_WAREHOUSE_
 public class CatalogSalesRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, CatalogSalesColumn.values().length).toArray();
+
     private final long csSoldDateSk;
     private final long csSoldTimeSk;
     private final long csShipDateSk;
@@ -123,40 +128,253 @@ public class CatalogSalesRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(csSoldDateSk, CS_SOLD_DATE_SK),
-                getStringOrNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK),
-                getStringOrNullForKey(csShipDateSk, CS_SHIP_DATE_SK),
-                getStringOrNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK),
-                getStringOrNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK),
-                getStringOrNullForKey(csBillAddrSk, CS_BILL_ADDR_SK),
-                getStringOrNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK),
-                getStringOrNullForKey(csCallCenterSk, CS_CALL_CENTER_SK),
-                getStringOrNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK),
-                getStringOrNullForKey(csShipModeSk, CS_SHIP_MODE_SK),
-                getStringOrNull(csWarehouseSk, CS_WAREHOUSE_SK),
-                getStringOrNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK),
-                getStringOrNullForKey(csPromoSk, CS_PROMO_SK),
-                getStringOrNull(csOrderNumber, CS_ORDER_NUMBER),
-                getStringOrNull(csPricing.getQuantity(), CS_PRICING_QUANTITY),
-                getStringOrNull(csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST),
-                getStringOrNull(csPricing.getListPrice(), CS_PRICING_LIST_PRICE),
-                getStringOrNull(csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE),
-                getStringOrNull(csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT),
-                getStringOrNull(csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(csPricing.getExtTax(), CS_PRICING_EXT_TAX),
-                getStringOrNull(csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT),
-                getStringOrNull(csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(csPricing.getNetPaid(), CS_PRICING_NET_PAID),
-                getStringOrNull(csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(csPricing.getNetProfit(), CS_PRICING_NET_PROFIT));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(csSoldDateSk, CS_SOLD_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(csShipDateSk, CS_SHIP_DATE_SK);
+            case 3:
+                return getStringOrNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK);
+            case 4:
+                return getStringOrNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK);
+            case 5:
+                return getStringOrNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(csBillAddrSk, CS_BILL_ADDR_SK);
+            case 7:
+                return getStringOrNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK);
+            case 8:
+                return getStringOrNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK);
+            case 9:
+                return getStringOrNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK);
+            case 10:
+                return getStringOrNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK);
+            case 11:
+                return getStringOrNullForKey(csCallCenterSk, CS_CALL_CENTER_SK);
+            case 12:
+                return getStringOrNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK);
+            case 13:
+                return getStringOrNullForKey(csShipModeSk, CS_SHIP_MODE_SK);
+            case 14:
+                return getStringOrNull(csWarehouseSk, CS_WAREHOUSE_SK);
+            case 15:
+                return getStringOrNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK);
+            case 16:
+                return getStringOrNullForKey(csPromoSk, CS_PROMO_SK);
+            case 17:
+                return getStringOrNull(csOrderNumber, CS_ORDER_NUMBER);
+            case 18:
+                return getStringOrNull(csPricing.getQuantity(), CS_PRICING_QUANTITY);
+            case 19:
+                return getStringOrNull(csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST);
+            case 20:
+                return getStringOrNull(csPricing.getListPrice(), CS_PRICING_LIST_PRICE);
+            case 21:
+                return getStringOrNull(csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE);
+            case 22:
+                return getStringOrNull(csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT);
+            case 23:
+                return getStringOrNull(csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE);
+            case 24:
+                return getStringOrNull(csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST);
+            case 25:
+                return getStringOrNull(csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE);
+            case 26:
+                return getStringOrNull(csPricing.getExtTax(), CS_PRICING_EXT_TAX);
+            case 27:
+                return getStringOrNull(csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT);
+            case 28:
+                return getStringOrNull(csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST);
+            case 29:
+                return getStringOrNull(csPricing.getNetPaid(), CS_PRICING_NET_PAID);
+            case 30:
+                return getStringOrNull(csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX);
+            case 31:
+                return getStringOrNull(csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP);
+            case 32:
+                return getStringOrNull(csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case 33:
+                return getStringOrNull(csPricing.getNetProfit(), CS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CATALOG_SALES)) {
+            case 0:
+                return isNullKey(csSoldDateSk, CS_SOLD_DATE_SK);
+            case 1:
+                return isNullKey(csSoldTimeSk, CS_SOLD_TIME_SK);
+            case 2:
+                return isNullKey(csShipDateSk, CS_SHIP_DATE_SK);
+            case 3:
+                return isNullKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK);
+            case 4:
+                return isNullKey(csBillCdemoSk, CS_BILL_CDEMO_SK);
+            case 5:
+                return isNullKey(csBillHdemoSk, CS_BILL_HDEMO_SK);
+            case 6:
+                return isNullKey(csBillAddrSk, CS_BILL_ADDR_SK);
+            case 7:
+                return isNullKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK);
+            case 8:
+                return isNullKey(csShipCdemoSk, CS_SHIP_CDEMO_SK);
+            case 9:
+                return isNullKey(csShipHdemoSk, CS_SHIP_HDEMO_SK);
+            case 10:
+                return isNullKey(csShipAddrSk, CS_SHIP_ADDR_SK);
+            case 11:
+                return isNullKey(csCallCenterSk, CS_CALL_CENTER_SK);
+            case 12:
+                return isNullKey(csCatalogPageSk, CS_CATALOG_PAGE_SK);
+            case 13:
+                return isNullKey(csShipModeSk, CS_SHIP_MODE_SK);
+            case 14:
+                return isNull(CS_WAREHOUSE_SK);
+            case 15:
+                return isNullKey(csSoldItemSk, CS_SOLD_ITEM_SK);
+            case 16:
+                return isNullKey(csPromoSk, CS_PROMO_SK);
+            case 17:
+                return isNull(CS_ORDER_NUMBER);
+            case 18:
+                return isNull(CS_PRICING_QUANTITY);
+            case 19:
+                return isNull(CS_PRICING_WHOLESALE_COST);
+            case 20:
+                return isNull(CS_PRICING_LIST_PRICE);
+            case 21:
+                return isNull(CS_PRICING_SALES_PRICE);
+            case 22:
+                return isNull(CS_PRICING_EXT_DISCOUNT_AMOUNT);
+            case 23:
+                return isNull(CS_PRICING_EXT_SALES_PRICE);
+            case 24:
+                return isNull(CS_PRICING_EXT_WHOLESALE_COST);
+            case 25:
+                return isNull(CS_PRICING_EXT_LIST_PRICE);
+            case 26:
+                return isNull(CS_PRICING_EXT_TAX);
+            case 27:
+                return isNull(CS_PRICING_COUPON_AMT);
+            case 28:
+                return isNull(CS_PRICING_EXT_SHIP_COST);
+            case 29:
+                return isNull(CS_PRICING_NET_PAID);
+            case 30:
+                return isNull(CS_PRICING_NET_PAID_INC_TAX);
+            case 31:
+                return isNull(CS_PRICING_NET_PAID_INC_SHIP);
+            case 32:
+                return isNull(CS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case 33:
+                return isNull(CS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CATALOG_SALES)) {
+            case 0:
+                return csSoldDateSk;
+            case 1:
+                return csSoldTimeSk;
+            case 2:
+                return csShipDateSk;
+            case 3:
+                return csBillCustomerSk;
+            case 4:
+                return csBillCdemoSk;
+            case 5:
+                return csBillHdemoSk;
+            case 6:
+                return csBillAddrSk;
+            case 7:
+                return csShipCustomerSk;
+            case 8:
+                return csShipCdemoSk;
+            case 9:
+                return csShipHdemoSk;
+            case 10:
+                return csShipAddrSk;
+            case 11:
+                return csCallCenterSk;
+            case 12:
+                return csCatalogPageSk;
+            case 13:
+                return csShipModeSk;
+            case 14:
+                return csWarehouseSk;
+            case 15:
+                return csSoldItemSk;
+            case 16:
+                return csPromoSk;
+            case 17:
+                return csOrderNumber;
+            case 18:
+                return csPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, CATALOG_SALES)) {
+            case 19:
+                return toUnscaled(csPricing.getWholesaleCost(), column);
+            case 20:
+                return toUnscaled(csPricing.getListPrice(), column);
+            case 21:
+                return toUnscaled(csPricing.getSalesPrice(), column);
+            case 22:
+                return toUnscaled(csPricing.getExtDiscountAmount(), column);
+            case 23:
+                return toUnscaled(csPricing.getExtSalesPrice(), column);
+            case 24:
+                return toUnscaled(csPricing.getExtWholesaleCost(), column);
+            case 25:
+                return toUnscaled(csPricing.getExtListPrice(), column);
+            case 26:
+                return toUnscaled(csPricing.getExtTax(), column);
+            case 27:
+                return toUnscaled(csPricing.getCouponAmount(), column);
+            case 28:
+                return toUnscaled(csPricing.getExtShipCost(), column);
+            case 29:
+                return toUnscaled(csPricing.getNetPaid(), column);
+            case 30:
+                return toUnscaled(csPricing.getNetPaidIncludingTax(), column);
+            case 31:
+                return toUnscaled(csPricing.getNetPaidIncludingShipping(), column);
+            case 32:
+                return toUnscaled(csPricing.getNetPaidIncludingShippingAndTax(), column);
+            case 33:
+                return toUnscaled(csPricing.getNetProfit(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 
     public Pricing getCsPricing()
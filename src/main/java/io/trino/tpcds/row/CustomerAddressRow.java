@@ -14,11 +14,13 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CUSTOMER_ADDRESS;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_CITY;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTY;
@@ -68,4 +70,61 @@ public class CustomerAddressRow
                 getStringOrNull(caAddress.getGmtOffset(), CA_ADDRESS_GMT_OFFSET),
                 getStringOrNull(caLocationType, CA_LOCATION_TYPE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CUSTOMER_ADDRESS)) {
+            case 0:
+                return isNullKey(caAddrSk, CA_ADDRESS_SK);
+            case 1:
+                return isNull(CA_ADDRESS_ID);
+            case 2:
+                return isNull(CA_ADDRESS_STREET_NUM);
+            case 3:
+                return isNull(CA_ADDRESS_STREET_NAME);
+            case 4:
+                return isNull(CA_ADDRESS_STREET_TYPE);
+            case 5:
+                return isNull(CA_ADDRESS_SUITE_NUM);
+            case 6:
+                return isNull(CA_ADDRESS_CITY);
+            case 7:
+                return isNull(CA_ADDRESS_COUNTY);
+            case 8:
+                return isNull(CA_ADDRESS_STATE);
+            case 9:
+                return isNull(CA_ADDRESS_ZIP);
+            case 10:
+                return isNull(CA_ADDRESS_COUNTRY);
+            case 11:
+                return isNull(CA_ADDRESS_GMT_OFFSET);
+            case 12:
+                return isNull(CA_LOCATION_TYPE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CUSTOMER_ADDRESS)) {
+            case 0:
+                return caAddrSk;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, CUSTOMER_ADDRESS)) {
+            case 11:
+                return toUnscaled(caAddress.getGmtOffset(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
 }
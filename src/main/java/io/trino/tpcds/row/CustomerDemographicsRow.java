@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_CREDIT_RATING;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEMO_SK;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEP_COLLEGE_COUNT;
@@ -76,4 +79,50 @@ public class CustomerDemographicsRow
                 getStringOrNull(cdDepEmployedCount, CD_DEP_EMPLOYED_COUNT),
                 getStringOrNull(cdDepCollegeCount, CD_DEP_COLLEGE_COUNT));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CUSTOMER_DEMOGRAPHICS)) {
+            case 0:
+                return isNullKey(cdDemoSk, CD_DEMO_SK);
+            case 1:
+                return isNull(CD_GENDER);
+            case 2:
+                return isNull(CD_MARITAL_STATUS);
+            case 3:
+                return isNull(CD_EDUCATION_STATUS);
+            case 4:
+                return isNull(CD_PURCHASE_ESTIMATE);
+            case 5:
+                return isNull(CD_CREDIT_RATING);
+            case 6:
+                return isNull(CD_DEP_COUNT);
+            case 7:
+                return isNull(CD_DEP_EMPLOYED_COUNT);
+            case 8:
+                return isNull(CD_DEP_COLLEGE_COUNT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CUSTOMER_DEMOGRAPHICS)) {
+            case 0:
+                return cdDemoSk;
+            case 4:
+                return cdPurchaseEstimate;
+            case 6:
+                return cdDepCount;
+            case 7:
+                return cdDepEmployedCount;
+            case 8:
+                return cdDepCollegeCount;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.CUSTOMER;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_COUNTRY;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_DAY;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_MONTH;
@@ -119,4 +122,78 @@ public class CustomerRow
                 getStringOrNull(cEmailAddress, C_EMAIL_ADDRESS),
                 getStringOrNull(cLastReviewDate, C_LAST_REVIEW_DATE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, CUSTOMER)) {
+            case 0:
+                return isNullKey(cCustomerSk, C_CUSTOMER_SK);
+            case 1:
+                return isNull(C_CUSTOMER_ID);
+            case 2:
+                return isNullKey(cCurrentCdemoSk, C_CURRENT_CDEMO_SK);
+            case 3:
+                return isNullKey(cCurrentHdemoSk, C_CURRENT_HDEMO_SK);
+            case 4:
+                return isNullKey(cCurrentAddrSk, C_CURRENT_ADDR_SK);
+            case 5:
+                return isNull(C_FIRST_SHIPTO_DATE_ID);
+            case 6:
+                return isNull(C_FIRST_SALES_DATE_ID);
+            case 7:
+                return isNull(C_SALUTATION);
+            case 8:
+                return isNull(C_FIRST_NAME);
+            case 9:
+                return isNull(C_LAST_NAME);
+            case 10:
+                return isNull(C_PREFERRED_CUST_FLAG);
+            case 11:
+                return isNull(C_BIRTH_DAY);
+            case 12:
+                return isNull(C_BIRTH_MONTH);
+            case 13:
+                return isNull(C_BIRTH_YEAR);
+            case 14:
+                return isNull(C_BIRTH_COUNTRY);
+            case 15:
+                return cLogin == null;
+            case 16:
+                return isNull(C_EMAIL_ADDRESS);
+            case 17:
+                return isNull(C_LAST_REVIEW_DATE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, CUSTOMER)) {
+            case 0:
+                return cCustomerSk;
+            case 2:
+                return cCurrentCdemoSk;
+            case 3:
+                return cCurrentHdemoSk;
+            case 4:
+                return cCurrentAddrSk;
+            case 5:
+                return cFirstShiptoDateId;
+            case 6:
+                return cFirstSalesDateId;
+            case 11:
+                return cBirthDay;
+            case 12:
+                return cBirthMonth;
+            case 13:
+                return cBirthYear;
+            case 17:
+                return cLastReviewDate;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.DATE_DIM;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_DAY;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_MONTH;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_QUARTER;
@@ -165,4 +168,121 @@ public class DateDimRow
                 getStringOrNullForBoolean(dCurrentQuarter, D_CURRENT_QUARTER),
                 getStringOrNullForBoolean(dCurrentYear, D_CURRENT_YEAR));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, DATE_DIM)) {
+            case 0:
+                return isNullKey(dDateSk, D_DATE_SK);
+            case 1:
+                return isNull(D_DATE_ID);
+            case 2:
+                return isNullDate(dDateSk, D_DATE_SK);
+            case 3:
+                return isNull(D_MONTH_SEQ);
+            case 4:
+                return isNull(D_WEEK_SEQ);
+            case 5:
+                return isNull(D_QUARTER_SEQ);
+            case 6:
+                return isNull(D_YEAR);
+            case 7:
+                return isNull(D_DOW);
+            case 8:
+                return isNull(D_MOY);
+            case 9:
+                return isNull(D_DOM);
+            case 10:
+                return isNull(D_QOY);
+            case 11:
+                return isNull(D_FY_YEAR);
+            case 12:
+                return isNull(D_FY_QUARTER_SEQ);
+            case 13:
+                return isNull(D_FY_WEEK_SEQ);
+            case 14:
+                return isNull(D_DAY_NAME);
+            case 15:
+                return isNull(D_QUARTER_NAME);
+            case 16:
+                return isNull(D_HOLIDAY);
+            case 17:
+                return isNull(D_WEEKEND);
+            case 18:
+                return isNull(D_FOLLOWING_HOLIDAY);
+            case 19:
+                return isNull(D_FIRST_DOM);
+            case 20:
+                return isNull(D_LAST_DOM);
+            case 21:
+                return isNull(D_SAME_DAY_LY);
+            case 22:
+                return isNull(D_SAME_DAY_LQ);
+            case 23:
+                return isNull(D_CURRENT_DAY);
+            case 24:
+                return isNull(D_CURRENT_WEEK);
+            case 25:
+                return isNull(D_CURRENT_MONTH);
+            case 26:
+                return isNull(D_CURRENT_QUARTER);
+            case 27:
+                return isNull(D_CURRENT_YEAR);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, DATE_DIM)) {
+            case 0:
+                return dDateSk;
+            case 3:
+                return dMonthSeq;
+            case 4:
+                return dWeekSeq;
+            case 5:
+                return dQuarterSeq;
+            case 6:
+                return dYear;
+            case 7:
+                return dDow;
+            case 8:
+                return dMoy;
+            case 9:
+                return dDom;
+            case 10:
+                return dQoy;
+            case 11:
+                return dFyYear;
+            case 12:
+                return dFyQuarterSeq;
+            case 13:
+                return dFyWeekSeq;
+            case 19:
+                return dFirstDom;
+            case 20:
+                return dLastDom;
+            case 21:
+                return dSameDayLy;
+            case 22:
+                return dSameDayLq;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, DATE_DIM)) {
+            case 2:
+                return dDateSk;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
@@ -13,9 +13,12 @@
  */
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.DBGEN_VERSION;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CMDLINE_ARGS;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_DATE;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_TIME;
@@ -46,4 +49,32 @@ public class DbgenVersionRow
                 getStringOrNull(dvCreateTime, DV_CREATE_TIME),
                 getStringOrNull(dvCmdlineArgs, DV_CMDLINE_ARGS));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, DBGEN_VERSION)) {
+            case 0:
+                return isNull(DV_VERSION);
+            case 1:
+                return isNull(DV_CREATE_DATE);
+            case 2:
+                return isNull(DV_CREATE_TIME);
+            case 3:
+                return isNull(DV_CMDLINE_ARGS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, DBGEN_VERSION)) {
+            case 1:
+                return toJulianDays(dvCreateDate);
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
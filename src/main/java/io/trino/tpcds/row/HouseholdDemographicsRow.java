@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_BUY_POTENTIAL;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEMO_SK;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEP_COUNT;
@@ -51,4 +54,40 @@ public class HouseholdDemographicsRow
                 getStringOrNull(hdDepCount, HD_DEP_COUNT),
                 getStringOrNull(hdVehicleCount, HD_VEHICLE_COUNT));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, HOUSEHOLD_DEMOGRAPHICS)) {
+            case 0:
+                return isNullKey(hdDemoSk, HD_DEMO_SK);
+            case 1:
+                return isNullKey(hdIncomeBandId, HD_INCOME_BAND_ID);
+            case 2:
+                return isNull(HD_BUY_POTENTIAL);
+            case 3:
+                return isNull(HD_DEP_COUNT);
+            case 4:
+                return isNull(HD_VEHICLE_COUNT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, HOUSEHOLD_DEMOGRAPHICS)) {
+            case 0:
+                return hdDemoSk;
+            case 1:
+                return hdIncomeBandId;
+            case 3:
+                return hdDepCount;
+            case 4:
+                return hdVehicleCount;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.INCOME_BAND;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_INCOME_BAND_ID;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_LOWER_BOUND;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_UPPER_BOUND;
@@ -43,4 +46,34 @@ public class IncomeBandRow
                 getStringOrNull(ibLowerBound, IB_LOWER_BOUND),
                 getStringOrNull(ibUpperBound, IB_UPPER_BOUND));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, INCOME_BAND)) {
+            case 0:
+                return isNull(IB_INCOME_BAND_ID);
+            case 1:
+                return isNull(IB_LOWER_BOUND);
+            case 2:
+                return isNull(IB_UPPER_BOUND);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, INCOME_BAND)) {
+            case 0:
+                return ibIncomeBandId;
+            case 1:
+                return ibLowerBound;
+            case 2:
+                return ibUpperBound;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
@@ -14,9 +14,13 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.InventoryColumn;
+
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.INVENTORY;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_DATE_SK;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_ITEM_SK;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_QUANTITY_ON_HAND;
@@ -25,6 +29,8 @@ import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_WAREHOUSE_SK
 public class InventoryRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, InventoryColumn.values().length).toArray();
+
     private final long invDateSk;
     private final long invItemSk;
     private final long invWarehouseSk;
@@ -42,9 +48,63 @@ public class InventoryRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(invDateSk, INV_DATE_SK),
-                getStringOrNullForKey(invItemSk, INV_ITEM_SK),
-                getStringOrNullForKey(invWarehouseSk, INV_WAREHOUSE_SK),
-                getStringOrNull(invQuantityOnHand, INV_QUANTITY_ON_HAND));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(invDateSk, INV_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(invItemSk, INV_ITEM_SK);
+            case 2:
+                return getStringOrNullForKey(invWarehouseSk, INV_WAREHOUSE_SK);
+            case 3:
+                return getStringOrNull(invQuantityOnHand, INV_QUANTITY_ON_HAND);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, INVENTORY)) {
+            case 0:
+                return isNullKey(invDateSk, INV_DATE_SK);
+            case 1:
+                return isNullKey(invItemSk, INV_ITEM_SK);
+            case 2:
+                return isNullKey(invWarehouseSk, INV_WAREHOUSE_SK);
+            case 3:
+                return isNull(INV_QUANTITY_ON_HAND);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, INVENTORY)) {
+            case 0:
+                return invDateSk;
+            case 1:
+                return invItemSk;
+            case 2:
+                return invWarehouseSk;
+            case 3:
+                return invQuantityOnHand;
+            default:
+                throw notOfType(column, "an integer");
+        }
     }
 }
@@ -14,11 +14,13 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Decimal;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.ITEM;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_BRAND;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_BRAND_ID;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_CATEGORY;
@@ -201,4 +203,104 @@ public class ItemRow
                 getStringOrNullForKey(iManagerId, I_MANAGER_ID),
                 getStringOrNull(iProductName, I_PRODUCT_NAME));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, ITEM)) {
+            case 0:
+                return isNullKey(iItemSk, I_ITEM_SK);
+            case 1:
+                return isNull(I_ITEM_ID);
+            case 2:
+                return isNullDate(iRecStartDateId, I_REC_START_DATE_ID);
+            case 3:
+                return isNullDate(iRecEndDateId, I_REC_END_DATE_ID);
+            case 4:
+                return isNull(I_ITEM_DESC);
+            case 5:
+                return isNull(I_CURRENT_PRICE);
+            case 6:
+                return isNull(I_WHOLESALE_COST);
+            case 7:
+                return isNullKey(iBrandId, I_BRAND_ID);
+            case 8:
+                return isNull(I_BRAND);
+            case 9:
+                return isNullKey(iClassId, I_CLASS_ID);
+            case 10:
+                return isNull(I_CLASS);
+            case 11:
+                return isNullKey(iCategoryId, I_CATEGORY_ID);
+            case 12:
+                return isNull(I_CATEGORY);
+            case 13:
+                return isNullKey(iManufactId, I_MANUFACT_ID);
+            case 14:
+                return isNull(I_MANUFACT);
+            case 15:
+                return isNull(I_SIZE);
+            case 16:
+                return isNull(I_FORMULATION);
+            case 17:
+                return isNull(I_COLOR);
+            case 18:
+                return isNull(I_UNITS);
+            case 19:
+                return isNull(I_CONTAINER);
+            case 20:
+                return isNullKey(iManagerId, I_MANAGER_ID);
+            case 21:
+                return isNull(I_PRODUCT_NAME);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, ITEM)) {
+            case 0:
+                return iItemSk;
+            case 7:
+                return iBrandId;
+            case 9:
+                return iClassId;
+            case 11:
+                return iCategoryId;
+            case 13:
+                return iManufactId;
+            case 20:
+                return iManagerId;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, ITEM)) {
+            case 5:
+                return toUnscaled(iCurrentPrice, column);
+            case 6:
+                return toUnscaled(iWholesaleCost, column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, ITEM)) {
+            case 2:
+                return iRecStartDateId;
+            case 3:
+                return iRecEndDateId;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
@@ -14,11 +14,13 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Decimal;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.PROMOTION;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_CATALOG;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DEMO;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DETAILS;
@@ -128,4 +130,81 @@ public class PromotionRow
                 getStringOrNull(pPurpose, P_PURPOSE),
                 getStringOrNullForBoolean(pDiscountActive, P_DISCOUNT_ACTIVE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, PROMOTION)) {
+            case 0:
+                return isNullKey(pPromoSk, P_PROMO_SK);
+            case 1:
+                return isNull(P_PROMO_ID);
+            case 2:
+                return isNullKey(pStartDateId, P_START_DATE_ID);
+            case 3:
+                return isNullKey(pEndDateId, P_END_DATE_ID);
+            case 4:
+                return isNullKey(pItemSk, P_ITEM_SK);
+            case 5:
+                return isNull(P_COST);
+            case 6:
+                return isNull(P_RESPONSE_TARGET);
+            case 7:
+                return isNull(P_PROMO_NAME);
+            case 8:
+                return isNull(P_CHANNEL_DMAIL);
+            case 9:
+                return isNull(P_CHANNEL_EMAIL);
+            case 10:
+                return isNull(P_CHANNEL_CATALOG);
+            case 11:
+                return isNull(P_CHANNEL_TV);
+            case 12:
+                return isNull(P_CHANNEL_RADIO);
+            case 13:
+                return isNull(P_CHANNEL_PRESS);
+            case 14:
+                return isNull(P_CHANNEL_EVENT);
+            case 15:
+                return isNull(P_CHANNEL_DEMO);
+            case 16:
+                return isNull(P_CHANNEL_DETAILS);
+            case 17:
+                return isNull(P_PURPOSE);
+            case 18:
+                return isNull(P_DISCOUNT_ACTIVE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, PROMOTION)) {
+            case 0:
+                return pPromoSk;
+            case 2:
+                return pStartDateId;
+            case 3:
+                return pEndDateId;
+            case 4:
+                return pItemSk;
+            case 6:
+                return pResponseTarget;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, PROMOTION)) {
+            case 5:
+                return toUnscaled(pCost, column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.REASON;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_DESCRIPTION;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_ID;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_SK;
@@ -43,4 +46,30 @@ public class ReasonRow
                 getStringOrNull(rReasonId, R_REASON_ID),
                 getStringOrNull(rReasonDescription, R_REASON_DESCRIPTION));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, REASON)) {
+            case 0:
+                return isNullKey(rReasonSk, R_REASON_SK);
+            case 1:
+                return isNull(R_REASON_ID);
+            case 2:
+                return isNull(R_REASON_DESCRIPTION);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, REASON)) {
+            case 0:
+                return rReasonSk;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
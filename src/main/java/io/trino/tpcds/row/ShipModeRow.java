@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.SHIP_MODE;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CARRIER;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CODE;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CONTRACT;
@@ -55,4 +58,36 @@ public class ShipModeRow
                 getStringOrNull(smCarrier, SM_CARRIER),
                 getStringOrNull(smContract, SM_CONTRACT));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, SHIP_MODE)) {
+            case 0:
+                return isNullKey(smShipModeSk, SM_SHIP_MODE_SK);
+            case 1:
+                return isNull(SM_SHIP_MODE_ID);
+            case 2:
+                return isNull(SM_TYPE);
+            case 3:
+                return isNull(SM_CODE);
+            case 4:
+                return isNull(SM_CARRIER);
+            case 5:
+                return isNull(SM_CONTRACT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, SHIP_MODE)) {
+            case 0:
+                return smShipModeSk;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
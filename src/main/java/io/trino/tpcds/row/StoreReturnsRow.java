@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.StoreReturnsColumn;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.STORE_RETURNS;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_ADDR_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CDEMO_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CUSTOMER_SK;
@@ -43,6 +46,8 @@ import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET_NUM
 public class StoreReturnsRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, StoreReturnsColumn.values().length).toArray();
+
     private final long srReturnedDateSk;
     private final long srReturnedTimeSk;
     private final long srItemSk;
@@ -85,25 +90,168 @@ public class StoreReturnsRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK),
-                getStringOrNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK),
-                getStringOrNullForKey(srItemSk, SR_ITEM_SK),
-                getStringOrNullForKey(srCustomerSk, SR_CUSTOMER_SK),
-                getStringOrNullForKey(srCdemoSk, SR_CDEMO_SK),
-                getStringOrNullForKey(srHdemoSk, SR_HDEMO_SK),
-                getStringOrNullForKey(srAddrSk, SR_ADDR_SK),
-                getStringOrNullForKey(srStoreSk, SR_STORE_SK),
-                getStringOrNullForKey(srReasonSk, SR_REASON_SK),
-                getStringOrNullForKey(srTicketNumber, SR_TICKET_NUMBER),
-                getStringOrNull(srPricing.getQuantity(), SR_PRICING_QUANTITY),
-                getStringOrNull(srPricing.getNetPaid(), SR_PRICING_NET_PAID),
-                getStringOrNull(srPricing.getExtTax(), SR_PRICING_EXT_TAX),
-                getStringOrNull(srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(srPricing.getFee(), SR_PRICING_FEE),
-                getStringOrNull(srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH),
-                getStringOrNull(srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT),
-                getStringOrNull(srPricing.getNetLoss(), SR_PRICING_NET_LOSS));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(srItemSk, SR_ITEM_SK);
+            case 3:
+                return getStringOrNullForKey(srCustomerSk, SR_CUSTOMER_SK);
+            case 4:
+                return getStringOrNullForKey(srCdemoSk, SR_CDEMO_SK);
+            case 5:
+                return getStringOrNullForKey(srHdemoSk, SR_HDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(srAddrSk, SR_ADDR_SK);
+            case 7:
+                return getStringOrNullForKey(srStoreSk, SR_STORE_SK);
+            case 8:
+                return getStringOrNullForKey(srReasonSk, SR_REASON_SK);
+            case 9:
+                return getStringOrNullForKey(srTicketNumber, SR_TICKET_NUMBER);
+            case 10:
+                return getStringOrNull(srPricing.getQuantity(), SR_PRICING_QUANTITY);
+            case 11:
+                return getStringOrNull(srPricing.getNetPaid(), SR_PRICING_NET_PAID);
+            case 12:
+                return getStringOrNull(srPricing.getExtTax(), SR_PRICING_EXT_TAX);
+            case 13:
+                return getStringOrNull(srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX);
+            case 14:
+                return getStringOrNull(srPricing.getFee(), SR_PRICING_FEE);
+            case 15:
+                return getStringOrNull(srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST);
+            case 16:
+                return getStringOrNull(srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH);
+            case 17:
+                return getStringOrNull(srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE);
+            case 18:
+                return getStringOrNull(srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT);
+            case 19:
+                return getStringOrNull(srPricing.getNetLoss(), SR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, STORE_RETURNS)) {
+            case 0:
+                return isNullKey(srReturnedDateSk, SR_RETURNED_DATE_SK);
+            case 1:
+                return isNullKey(srReturnedTimeSk, SR_RETURNED_TIME_SK);
+            case 2:
+                return isNullKey(srItemSk, SR_ITEM_SK);
+            case 3:
+                return isNullKey(srCustomerSk, SR_CUSTOMER_SK);
+            case 4:
+                return isNullKey(srCdemoSk, SR_CDEMO_SK);
+            case 5:
+                return isNullKey(srHdemoSk, SR_HDEMO_SK);
+            case 6:
+                return isNullKey(srAddrSk, SR_ADDR_SK);
+            case 7:
+                return isNullKey(srStoreSk, SR_STORE_SK);
+            case 8:
+                return isNullKey(srReasonSk, SR_REASON_SK);
+            case 9:
+                return isNullKey(srTicketNumber, SR_TICKET_NUMBER);
+            case 10:
+                return isNull(SR_PRICING_QUANTITY);
+            case 11:
+                return isNull(SR_PRICING_NET_PAID);
+            case 12:
+                return isNull(SR_PRICING_EXT_TAX);
+            case 13:
+                return isNull(SR_PRICING_NET_PAID_INC_TAX);
+            case 14:
+                return isNull(SR_PRICING_FEE);
+            case 15:
+                return isNull(SR_PRICING_EXT_SHIP_COST);
+            case 16:
+                return isNull(SR_PRICING_REFUNDED_CASH);
+            case 17:
+                return isNull(SR_PRICING_REVERSED_CHARGE);
+            case 18:
+                return isNull(SR_PRICING_STORE_CREDIT);
+            case 19:
+                return isNull(SR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, STORE_RETURNS)) {
+            case 0:
+                return srReturnedDateSk;
+            case 1:
+                return srReturnedTimeSk;
+            case 2:
+                return srItemSk;
+            case 3:
+                return srCustomerSk;
+            case 4:
+                return srCdemoSk;
+            case 5:
+                return srHdemoSk;
+            case 6:
+                return srAddrSk;
+            case 7:
+                return srStoreSk;
+            case 8:
+                return srReasonSk;
+            case 9:
+                return srTicketNumber;
+            case 10:
+                return srPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, STORE_RETURNS)) {
+            case 11:
+                return toUnscaled(srPricing.getNetPaid(), column);
+            case 12:
+                return toUnscaled(srPricing.getExtTax(), column);
+            case 13:
+                return toUnscaled(srPricing.getNetPaidIncludingTax(), column);
+            case 14:
+                return toUnscaled(srPricing.getFee(), column);
+            case 15:
+                return toUnscaled(srPricing.getExtShipCost(), column);
+            case 16:
+                return toUnscaled(srPricing.getRefundedCash(), column);
+            case 17:
+                return toUnscaled(srPricing.getReversedCharge(), column);
+            case 18:
+                return toUnscaled(srPricing.getStoreCredit(), column);
+            case 19:
+                return toUnscaled(srPricing.getNetLoss(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 }
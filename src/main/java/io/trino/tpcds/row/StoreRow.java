@@ -14,12 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.STORE;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_CITY;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTY;
@@ -208,4 +210,120 @@ public class StoreRow
                 getStringOrNull(address.getGmtOffset(), W_STORE_ADDRESS_GMT_OFFSET),
                 getStringOrNull(dTaxPercentage, W_STORE_TAX_PERCENTAGE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, STORE)) {
+            case 0:
+                return isNullKey(storeSk, W_STORE_SK);
+            case 1:
+                return isNull(W_STORE_ID);
+            case 2:
+                return isNullDate(recStartDateId, W_STORE_REC_START_DATE_ID);
+            case 3:
+                return isNullDate(recEndDateId, W_STORE_REC_END_DATE_ID);
+            case 4:
+                return isNullKey(closedDateId, W_STORE_CLOSED_DATE_ID);
+            case 5:
+                return isNull(W_STORE_NAME);
+            case 6:
+                return isNull(W_STORE_EMPLOYEES);
+            case 7:
+                return isNull(W_STORE_FLOOR_SPACE);
+            case 8:
+                return isNull(W_STORE_HOURS);
+            case 9:
+                return isNull(W_STORE_MANAGER);
+            case 10:
+                return isNull(W_STORE_MARKET_ID);
+            case 11:
+                return isNull(W_STORE_GEOGRAPHY_CLASS);
+            case 12:
+                return isNull(W_STORE_MARKET_DESC);
+            case 13:
+                return isNull(W_STORE_MARKET_MANAGER);
+            case 14:
+                return isNullKey(divisionId, W_STORE_DIVISION_ID);
+            case 15:
+                return isNull(W_STORE_DIVISION_NAME);
+            case 16:
+                return isNullKey(companyId, W_STORE_COMPANY_ID);
+            case 17:
+                return isNull(W_STORE_COMPANY_NAME);
+            case 18:
+                return isNull(W_STORE_ADDRESS_STREET_NUM);
+            case 19:
+                return isNull(W_STORE_ADDRESS_STREET_NAME1);
+            case 20:
+                return isNull(W_STORE_ADDRESS_STREET_TYPE);
+            case 21:
+                return isNull(W_STORE_ADDRESS_SUITE_NUM);
+            case 22:
+                return isNull(W_STORE_ADDRESS_CITY);
+            case 23:
+                return isNull(W_STORE_ADDRESS_COUNTY);
+            case 24:
+                return isNull(W_STORE_ADDRESS_STATE);
+            case 25:
+                return isNull(W_STORE_ADDRESS_ZIP);
+            case 26:
+                return isNull(W_STORE_ADDRESS_COUNTRY);
+            case 27:
+                return isNull(W_STORE_ADDRESS_GMT_OFFSET);
+            case 28:
+                return isNull(W_STORE_TAX_PERCENTAGE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, STORE)) {
+            case 0:
+                return storeSk;
+            case 4:
+                return closedDateId;
+            case 6:
+                return employees;
+            case 7:
+                return floorSpace;
+            case 10:
+                return marketId;
+            case 14:
+                return divisionId;
+            case 16:
+                return companyId;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, STORE)) {
+            case 27:
+                return toUnscaled(address.getGmtOffset(), column);
+            case 28:
+                return toUnscaled(dTaxPercentage, column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, STORE)) {
+            case 2:
+                return recStartDateId;
+            case 3:
+                return recEndDateId;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
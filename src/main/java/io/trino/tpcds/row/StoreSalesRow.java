@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.StoreSalesColumn;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.STORE_SALES;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_COUPON_AMT;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_LIST_PRICE;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_SALES_PRICE;
@@ -45,6 +48,8 @@ import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_TICKET_NUMBE
 public class StoreSalesRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, StoreSalesColumn.values().length).toArray();
+
     private final long ssSoldDateSk;
     private final long ssSoldTimeSk;
     private final long ssSoldItemSk;
@@ -87,29 +92,187 @@ public class StoreSalesRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK),
-                getStringOrNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK),
-                getStringOrNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK),
-                getStringOrNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK),
-                getStringOrNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK),
-                getStringOrNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK),
-                getStringOrNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK),
-                getStringOrNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK),
-                getStringOrNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK),
-                getStringOrNullForKey(ssTicketNumber, SS_TICKET_NUMBER),
-                getStringOrNull(ssPricing.getQuantity(), SS_PRICING_QUANTITY),
-                getStringOrNull(ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getListPrice(), SS_PRICING_LIST_PRICE),
-                getStringOrNull(ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(ssPricing.getExtTax(), SS_PRICING_EXT_TAX),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getNetPaid(), SS_PRICING_NET_PAID),
-                getStringOrNull(ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK);
+            case 3:
+                return getStringOrNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK);
+            case 4:
+                return getStringOrNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK);
+            case 5:
+                return getStringOrNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK);
+            case 7:
+                return getStringOrNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK);
+            case 8:
+                return getStringOrNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK);
+            case 9:
+                return getStringOrNullForKey(ssTicketNumber, SS_TICKET_NUMBER);
+            case 10:
+                return getStringOrNull(ssPricing.getQuantity(), SS_PRICING_QUANTITY);
+            case 11:
+                return getStringOrNull(ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST);
+            case 12:
+                return getStringOrNull(ssPricing.getListPrice(), SS_PRICING_LIST_PRICE);
+            case 13:
+                return getStringOrNull(ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE);
+            case 14:
+                return getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+            case 15:
+                return getStringOrNull(ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE);
+            case 16:
+                return getStringOrNull(ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST);
+            case 17:
+                return getStringOrNull(ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE);
+            case 18:
+                return getStringOrNull(ssPricing.getExtTax(), SS_PRICING_EXT_TAX);
+            case 19:
+                return getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+            case 20:
+                return getStringOrNull(ssPricing.getNetPaid(), SS_PRICING_NET_PAID);
+            case 21:
+                return getStringOrNull(ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX);
+            case 22:
+                return getStringOrNull(ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, STORE_SALES)) {
+            case 0:
+                return isNullKey(ssSoldDateSk, SS_SOLD_DATE_SK);
+            case 1:
+                return isNullKey(ssSoldTimeSk, SS_SOLD_TIME_SK);
+            case 2:
+                return isNullKey(ssSoldItemSk, SS_SOLD_ITEM_SK);
+            case 3:
+                return isNullKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK);
+            case 4:
+                return isNullKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK);
+            case 5:
+                return isNullKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK);
+            case 6:
+                return isNullKey(ssSoldAddrSk, SS_SOLD_ADDR_SK);
+            case 7:
+                return isNullKey(ssSoldStoreSk, SS_SOLD_STORE_SK);
+            case 8:
+                return isNullKey(ssSoldPromoSk, SS_SOLD_PROMO_SK);
+            case 9:
+                return isNullKey(ssTicketNumber, SS_TICKET_NUMBER);
+            case 10:
+                return isNull(SS_PRICING_QUANTITY);
+            case 11:
+                return isNull(SS_PRICING_WHOLESALE_COST);
+            case 12:
+                return isNull(SS_PRICING_LIST_PRICE);
+            case 13:
+                return isNull(SS_PRICING_SALES_PRICE);
+            case 14:
+                return isNull(SS_PRICING_COUPON_AMT);
+            case 15:
+                return isNull(SS_PRICING_EXT_SALES_PRICE);
+            case 16:
+                return isNull(SS_PRICING_EXT_WHOLESALE_COST);
+            case 17:
+                return isNull(SS_PRICING_EXT_LIST_PRICE);
+            case 18:
+                return isNull(SS_PRICING_EXT_TAX);
+            case 19:
+                return isNull(SS_PRICING_COUPON_AMT);
+            case 20:
+                return isNull(SS_PRICING_NET_PAID);
+            case 21:
+                return isNull(SS_PRICING_NET_PAID_INC_TAX);
+            case 22:
+                return isNull(SS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, STORE_SALES)) {
+            case 0:
+                return ssSoldDateSk;
+            case 1:
+                return ssSoldTimeSk;
+            case 2:
+                return ssSoldItemSk;
+            case 3:
+                return ssSoldCustomerSk;
+            case 4:
+                return ssSoldCdemoSk;
+            case 5:
+                return ssSoldHdemoSk;
+            case 6:
+                return ssSoldAddrSk;
+            case 7:
+                return ssSoldStoreSk;
+            case 8:
+                return ssSoldPromoSk;
+            case 9:
+                return ssTicketNumber;
+            case 10:
+                return ssPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, STORE_SALES)) {
+            case 11:
+                return toUnscaled(ssPricing.getWholesaleCost(), column);
+            case 12:
+                return toUnscaled(ssPricing.getListPrice(), column);
+            case 13:
+                return toUnscaled(ssPricing.getSalesPrice(), column);
+            case 14:
+                return toUnscaled(ssPricing.getCouponAmount(), column);
+            case 15:
+                return toUnscaled(ssPricing.getExtSalesPrice(), column);
+            case 16:
+                return toUnscaled(ssPricing.getExtWholesaleCost(), column);
+            case 17:
+                return toUnscaled(ssPricing.getExtListPrice(), column);
+            case 18:
+                return toUnscaled(ssPricing.getExtTax(), column);
+            case 19:
+                return toUnscaled(ssPricing.getCouponAmount(), column);
+            case 20:
+                return toUnscaled(ssPricing.getNetPaid(), column);
+            case 21:
+                return toUnscaled(ssPricing.getNetPaidIncludingTax(), column);
+            case 22:
+                return toUnscaled(ssPricing.getNetProfit(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 
     public long getSsTicketNumber()
@@ -14,9 +14,54 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public interface TableRow
 {
     List<String> getValues();
+
+    /**
+     * Returns the String representations of the columns at the given positions, in
+     * the order given. Rows that can render a single column without rendering the
+     * whole row override this together with {@link #getValue(int)}.
+     */
+    default List<String> getValues(int[] positions)
+    {
+        List<String> values = getValues();
+        List<String> projectedValues = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            projectedValues.add(values.get(position));
+        }
+        return projectedValues;
+    }
+
+    default String getValue(int position)
+    {
+        return getValues().get(position);
+    }
+
+    /**
+     * Returns whether the column, of the table of this row, is null. The typed accessors
+     * below return the values the row was generated with, which are only meaningful for
+     * columns that are not null.
+     */
+    boolean isNull(Column column);
+
+    /**
+     * Returns the value of an integer or identifier column, without rendering it.
+     */
+    long getLong(Column column);
+
+    /**
+     * Returns the unscaled value of a decimal column, at the scale of the column type.
+     */
+    long getDecimalUnscaled(Column column);
+
+    /**
+     * Returns a date column as a Julian day number, see {@link io.trino.tpcds.type.Date#toJulianDays}.
+     */
+    long getJulianDate(Column column);
 }
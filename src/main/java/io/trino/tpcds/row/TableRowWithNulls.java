@@ -14,9 +14,19 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.generator.GeneratorColumn;
+import io.trino.tpcds.type.Date;
+import io.trino.tpcds.type.Decimal;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.tpcds.type.Date.fromJulianDays;
+import static java.lang.String.format;
 
 public abstract class TableRowWithNulls
         implements TableRow
@@ -30,12 +40,22 @@ public abstract class TableRowWithNulls
         this.firstColumn = firstColumn;
     }
 
-    private boolean isNull(GeneratorColumn column)
+    protected boolean isNull(GeneratorColumn column)
     {
         long kBitMask = 1L << (column.getGlobalColumnNumber() - firstColumn.getGlobalColumnNumber());
         return (nullBitMap & kBitMask) != 0;
     }
 
+    // Used by rows that override getValue(int) to render only the requested columns
+    protected List<String> renderValues(int[] positions)
+    {
+        List<String> values = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            values.add(getValue(position));
+        }
+        return values;
+    }
+
     protected <T> String getStringOrNull(T value, GeneratorColumn column)
     {
         return isNull(column) ? null : value.toString();
@@ -59,4 +79,77 @@ public abstract class TableRowWithNulls
     {
         return (isNull(column) || value < 0) ? null : fromJulianDays((int) value).toString();
     }
+
+    // The typed accessors of the rows that have columns of that type override these
+
+    @Override
+    public long getLong(Column column)
+    {
+        throw notOfType(column, "an integer");
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        throw notOfType(column, "a decimal");
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        throw notOfType(column, "a date");
+    }
+
+    protected static int getPosition(Column column, Table table)
+    {
+        checkArgument(column.getTable() == table, "column %s does not belong to %s", column.getName(), table.getName());
+        return column.getPosition();
+    }
+
+    protected static IllegalArgumentException notOfType(Column column, String type)
+    {
+        return new IllegalArgumentException(format("column %s of %s is not %s", column.getName(), column.getTable().getName(), type));
+    }
+
+    // the same as getStringOrNullForKey returning null
+    protected boolean isNullKey(long value, GeneratorColumn column)
+    {
+        return isNull(column) || value == -1;
+    }
+
+    // the same as getDateStringOrNullFromJulianDays returning null
+    protected boolean isNullDate(long julianDays, GeneratorColumn column)
+    {
+        return isNull(column) || julianDays < 0;
+    }
+
+    // the unscaled value of the decimal at the scale of the column
+    protected static long toUnscaled(Decimal value, Column column)
+    {
+        return rescale(value.getNumber(), value.getPrecision(), column);
+    }
+
+    protected static long toUnscaled(long value, Column column)
+    {
+        return rescale(value, 0, column);
+    }
+
+    private static long rescale(long number, int scale, Column column)
+    {
+        int columnScale = column.getType().getScale().orElseThrow(() -> notOfType(column, "a decimal"));
+        for (; scale < columnScale; scale++) {
+            number *= 10;
+        }
+        for (; scale > columnScale; scale--) {
+            number /= 10;
+        }
+        return number;
+    }
+
+    // for the dates that are generated as text
+    protected static long toJulianDays(String date)
+    {
+        LocalDate localDate = LocalDate.parse(date);
+        return Date.toJulianDays(new Date(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.TIME_DIM;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_AM_PM;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_HOUR;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_MEAL_TIME;
@@ -71,4 +74,52 @@ public class TimeDimRow
                 getStringOrNull(tSubShift, T_SUB_SHIFT),
                 getStringOrNull(tMealTime, T_MEAL_TIME));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, TIME_DIM)) {
+            case 0:
+                return isNullKey(tTimeSk, T_TIME_SK);
+            case 1:
+                return isNull(T_TIME_ID);
+            case 2:
+                return isNull(T_TIME);
+            case 3:
+                return isNull(T_HOUR);
+            case 4:
+                return isNull(T_MINUTE);
+            case 5:
+                return isNull(T_SECOND);
+            case 6:
+                return isNull(T_AM_PM);
+            case 7:
+                return isNull(T_SHIFT);
+            case 8:
+                return isNull(T_SUB_SHIFT);
+            case 9:
+                return isNull(T_MEAL_TIME);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, TIME_DIM)) {
+            case 0:
+                return tTimeSk;
+            case 2:
+                return tTime;
+            case 3:
+                return tHour;
+            case 4:
+                return tMinute;
+            case 5:
+                return tSecond;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
 }
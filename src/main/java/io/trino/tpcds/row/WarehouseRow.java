@@ -14,11 +14,13 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.WAREHOUSE;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_CITY;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTY;
@@ -72,4 +74,65 @@ public class WarehouseRow
                 getStringOrNull(wAddress.getCountry(), W_ADDRESS_COUNTRY),
                 getStringOrNull(wAddress.getGmtOffset(), W_ADDRESS_GMT_OFFSET));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, WAREHOUSE)) {
+            case 0:
+                return isNullKey(wWarehouseSk, W_WAREHOUSE_SK);
+            case 1:
+                return isNull(W_WAREHOUSE_ID);
+            case 2:
+                return isNull(W_WAREHOUSE_NAME);
+            case 3:
+                return isNull(W_WAREHOUSE_SQ_FT);
+            case 4:
+                return isNull(W_ADDRESS_STREET_NUM);
+            case 5:
+                return isNull(W_ADDRESS_STREET_NAME1);
+            case 6:
+                return isNull(W_ADDRESS_STREET_TYPE);
+            case 7:
+                return isNull(W_ADDRESS_SUITE_NUM);
+            case 8:
+                return isNull(W_ADDRESS_CITY);
+            case 9:
+                return isNull(W_ADDRESS_COUNTY);
+            case 10:
+                return isNull(W_ADDRESS_STATE);
+            case 11:
+                return isNull(W_ADDRESS_ZIP);
+            case 12:
+                return isNull(W_ADDRESS_COUNTRY);
+            case 13:
+                return isNull(W_ADDRESS_GMT_OFFSET);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, WAREHOUSE)) {
+            case 0:
+                return wWarehouseSk;
+            case 3:
+                return wWarehouseSqFt;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, WAREHOUSE)) {
+            case 13:
+                return toUnscaled(wAddress.getGmtOffset(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.WEB_PAGE;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_ACCESS_DATE_SK;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_AUTOGEN_FLAG;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_CHAR_COUNT;
@@ -141,4 +144,79 @@ public class WebPageRow
                 getStringOrNull(wpImageCount, WP_IMAGE_COUNT),
                 getStringOrNull(wpMaxAdCount, WP_MAX_AD_COUNT));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, WEB_PAGE)) {
+            case 0:
+                return isNullKey(wpPageSk, WP_PAGE_SK);
+            case 1:
+                return isNull(WP_PAGE_ID);
+            case 2:
+                return isNullDate(wpRecStartDateId, WP_REC_START_DATE_ID);
+            case 3:
+                return isNullDate(wpRecEndDateId, WP_REC_END_DATE_ID);
+            case 4:
+                return isNullKey(wpCreationDateSk, WP_CREATION_DATE_SK);
+            case 5:
+                return isNullKey(wpAccessDateSk, WP_ACCESS_DATE_SK);
+            case 6:
+                return isNull(WP_AUTOGEN_FLAG);
+            case 7:
+                return isNullKey(wpCustomerSk, WP_CUSTOMER_SK);
+            case 8:
+                return isNull(WP_URL);
+            case 9:
+                return isNull(WP_TYPE);
+            case 10:
+                return isNull(WP_CHAR_COUNT);
+            case 11:
+                return isNull(WP_LINK_COUNT);
+            case 12:
+                return isNull(WP_IMAGE_COUNT);
+            case 13:
+                return isNull(WP_MAX_AD_COUNT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, WEB_PAGE)) {
+            case 0:
+                return wpPageSk;
+            case 4:
+                return wpCreationDateSk;
+            case 5:
+                return wpAccessDateSk;
+            case 7:
+                return wpCustomerSk;
+            case 10:
+                return wpCharCount;
+            case 11:
+                return wpLinkCount;
+            case 12:
+                return wpImageCount;
+            case 13:
+                return wpMaxAdCount;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, WEB_PAGE)) {
+            case 2:
+                return wpRecStartDateId;
+            case 3:
+                return wpRecEndDateId;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebReturnsColumn;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.WEB_RETURNS;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_ITEM_SK;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_ORDER_NUMBER;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_PRICING_EXT_SHIP_COST;
@@ -47,6 +50,8 @@ import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_WEB_PAGE_SK;
 public class WebReturnsRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, WebReturnsColumn.values().length).toArray();
+
     private final long wrReturnedDateSk;
     private final long wrReturnedTimeSk;
     private final long wrItemSk;
@@ -101,29 +106,192 @@ public class WebReturnsRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK),
-                getStringOrNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK),
-                getStringOrNullForKey(wrItemSk, WR_ITEM_SK),
-                getStringOrNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(wrWebPageSk, WR_WEB_PAGE_SK),
-                getStringOrNullForKey(wrReasonSk, WR_REASON_SK),
-                getStringOrNullForKey(wrOrderNumber, WR_ORDER_NUMBER),
-                getStringOrNull(wrPricing.getQuantity(), WR_PRICING_QUANTITY),
-                getStringOrNull(wrPricing.getNetPaid(), WR_PRICING_NET_PAID),
-                getStringOrNull(wrPricing.getExtTax(), WR_PRICING_EXT_TAX),
-                getStringOrNull(wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wrPricing.getFee(), WR_PRICING_FEE),
-                getStringOrNull(wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH),
-                getStringOrNull(wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT),
-                getStringOrNull(wrPricing.getNetLoss(), WR_PRICING_NET_LOSS));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(wrItemSk, WR_ITEM_SK);
+            case 3:
+                return getStringOrNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK);
+            case 4:
+                return getStringOrNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK);
+            case 5:
+                return getStringOrNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK);
+            case 7:
+                return getStringOrNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK);
+            case 8:
+                return getStringOrNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK);
+            case 9:
+                return getStringOrNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK);
+            case 10:
+                return getStringOrNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK);
+            case 11:
+                return getStringOrNullForKey(wrWebPageSk, WR_WEB_PAGE_SK);
+            case 12:
+                return getStringOrNullForKey(wrReasonSk, WR_REASON_SK);
+            case 13:
+                return getStringOrNullForKey(wrOrderNumber, WR_ORDER_NUMBER);
+            case 14:
+                return getStringOrNull(wrPricing.getQuantity(), WR_PRICING_QUANTITY);
+            case 15:
+                return getStringOrNull(wrPricing.getNetPaid(), WR_PRICING_NET_PAID);
+            case 16:
+                return getStringOrNull(wrPricing.getExtTax(), WR_PRICING_EXT_TAX);
+            case 17:
+                return getStringOrNull(wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX);
+            case 18:
+                return getStringOrNull(wrPricing.getFee(), WR_PRICING_FEE);
+            case 19:
+                return getStringOrNull(wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST);
+            case 20:
+                return getStringOrNull(wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH);
+            case 21:
+                return getStringOrNull(wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE);
+            case 22:
+                return getStringOrNull(wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT);
+            case 23:
+                return getStringOrNull(wrPricing.getNetLoss(), WR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, WEB_RETURNS)) {
+            case 0:
+                return isNullKey(wrReturnedDateSk, WR_RETURNED_DATE_SK);
+            case 1:
+                return isNullKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK);
+            case 2:
+                return isNullKey(wrItemSk, WR_ITEM_SK);
+            case 3:
+                return isNullKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK);
+            case 4:
+                return isNullKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK);
+            case 5:
+                return isNullKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK);
+            case 6:
+                return isNullKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK);
+            case 7:
+                return isNullKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK);
+            case 8:
+                return isNullKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK);
+            case 9:
+                return isNullKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK);
+            case 10:
+                return isNullKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK);
+            case 11:
+                return isNullKey(wrWebPageSk, WR_WEB_PAGE_SK);
+            case 12:
+                return isNullKey(wrReasonSk, WR_REASON_SK);
+            case 13:
+                return isNullKey(wrOrderNumber, WR_ORDER_NUMBER);
+            case 14:
+                return isNull(WR_PRICING_QUANTITY);
+            case 15:
+                return isNull(WR_PRICING_NET_PAID);
+            case 16:
+                return isNull(WR_PRICING_EXT_TAX);
+            case 17:
+                return isNull(WR_PRICING_NET_PAID_INC_TAX);
+            case 18:
+                return isNull(WR_PRICING_FEE);
+            case 19:
+                return isNull(WR_PRICING_EXT_SHIP_COST);
+            case 20:
+                return isNull(WR_PRICING_REFUNDED_CASH);
+            case 21:
+                return isNull(WR_PRICING_REVERSED_CHARGE);
+            case 22:
+                return isNull(WR_PRICING_STORE_CREDIT);
+            case 23:
+                return isNull(WR_PRICING_NET_LOSS);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, WEB_RETURNS)) {
+            case 0:
+                return wrReturnedDateSk;
+            case 1:
+                return wrReturnedTimeSk;
+            case 2:
+                return wrItemSk;
+            case 3:
+                return wrRefundedCustomerSk;
+            case 4:
+                return wrRefundedCdemoSk;
+            case 5:
+                return wrRefundedHdemoSk;
+            case 6:
+                return wrRefundedAddrSk;
+            case 7:
+                return wrReturningCustomerSk;
+            case 8:
+                return wrReturningCdemoSk;
+            case 9:
+                return wrReturningHdemoSk;
+            case 10:
+                return wrReturningAddrSk;
+            case 11:
+                return wrWebPageSk;
+            case 12:
+                return wrReasonSk;
+            case 13:
+                return wrOrderNumber;
+            case 14:
+                return wrPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, WEB_RETURNS)) {
+            case 15:
+                return toUnscaled(wrPricing.getNetPaid(), column);
+            case 16:
+                return toUnscaled(wrPricing.getExtTax(), column);
+            case 17:
+                return toUnscaled(wrPricing.getNetPaidIncludingTax(), column);
+            case 18:
+                return toUnscaled(wrPricing.getFee(), column);
+            case 19:
+                return toUnscaled(wrPricing.getExtShipCost(), column);
+            case 20:
+                return toUnscaled(wrPricing.getRefundedCash(), column);
+            case 21:
+                return toUnscaled(wrPricing.getReversedCharge(), column);
+            case 22:
+                return toUnscaled(wrPricing.getStoreCredit(), column);
+            case 23:
+                return toUnscaled(wrPricing.getNetLoss(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 }
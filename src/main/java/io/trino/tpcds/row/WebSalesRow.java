@@ -14,11 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebSalesColumn;
 import io.trino.tpcds.type.Pricing;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.WEB_SALES;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CDEMO_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CUSTOMER_SK;
@@ -57,6 +60,8 @@ import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_WEB_SITE_SK;
 public class WebSalesRow
         extends TableRowWithNulls
 {
+    private static final int[] ALL_POSITIONS = IntStream.range(0, WebSalesColumn.values().length).toArray();
+
     private final long wsSoldDateSk;
     private final long wsSoldTimeSk;
     private final long wsShipDateSk;
@@ -168,39 +173,252 @@ public class WebSalesRow
     @Override
     public List<String> getValues()
     {
-        return newArrayList(getStringOrNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK),
-                getStringOrNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK),
-                getStringOrNullForKey(wsShipDateSk, WS_SHIP_DATE_SK),
-                getStringOrNullForKey(wsItemSk, WS_ITEM_SK),
-                getStringOrNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK),
-                getStringOrNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK),
-                getStringOrNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK),
-                getStringOrNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK),
-                getStringOrNullForKey(wsWebPageSk, WS_WEB_PAGE_SK),
-                getStringOrNullForKey(wsWebSiteSk, WS_WEB_SITE_SK),
-                getStringOrNullForKey(wsShipModeSk, WS_SHIP_MODE_SK),
-                getStringOrNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK),
-                getStringOrNullForKey(wsPromoSk, WS_PROMO_SK),
-                getStringOrNullForKey(wsOrderNumber, WS_ORDER_NUMBER),
-                getStringOrNull(wsPricing.getQuantity(), WS_PRICING_QUANTITY),
-                getStringOrNull(wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getListPrice(), WS_PRICING_LIST_PRICE),
-                getStringOrNull(wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT),
-                getStringOrNull(wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(wsPricing.getExtTax(), WS_PRICING_EXT_TAX),
-                getStringOrNull(wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT),
-                getStringOrNull(wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wsPricing.getNetPaid(), WS_PRICING_NET_PAID),
-                getStringOrNull(wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT));
+        return renderValues(ALL_POSITIONS);
+    }
+
+    @Override
+    public List<String> getValues(int[] positions)
+    {
+        return renderValues(positions);
+    }
+
+    @Override
+    public String getValue(int position)
+    {
+        switch (position) {
+            case 0:
+                return getStringOrNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK);
+            case 1:
+                return getStringOrNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK);
+            case 2:
+                return getStringOrNullForKey(wsShipDateSk, WS_SHIP_DATE_SK);
+            case 3:
+                return getStringOrNullForKey(wsItemSk, WS_ITEM_SK);
+            case 4:
+                return getStringOrNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK);
+            case 5:
+                return getStringOrNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK);
+            case 6:
+                return getStringOrNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK);
+            case 7:
+                return getStringOrNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK);
+            case 8:
+                return getStringOrNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK);
+            case 9:
+                return getStringOrNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK);
+            case 10:
+                return getStringOrNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK);
+            case 11:
+                return getStringOrNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK);
+            case 12:
+                return getStringOrNullForKey(wsWebPageSk, WS_WEB_PAGE_SK);
+            case 13:
+                return getStringOrNullForKey(wsWebSiteSk, WS_WEB_SITE_SK);
+            case 14:
+                return getStringOrNullForKey(wsShipModeSk, WS_SHIP_MODE_SK);
+            case 15:
+                return getStringOrNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK);
+            case 16:
+                return getStringOrNullForKey(wsPromoSk, WS_PROMO_SK);
+            case 17:
+                return getStringOrNullForKey(wsOrderNumber, WS_ORDER_NUMBER);
+            case 18:
+                return getStringOrNull(wsPricing.getQuantity(), WS_PRICING_QUANTITY);
+            case 19:
+                return getStringOrNull(wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST);
+            case 20:
+                return getStringOrNull(wsPricing.getListPrice(), WS_PRICING_LIST_PRICE);
+            case 21:
+                return getStringOrNull(wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE);
+            case 22:
+                return getStringOrNull(wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT);
+            case 23:
+                return getStringOrNull(wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE);
+            case 24:
+                return getStringOrNull(wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST);
+            case 25:
+                return getStringOrNull(wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE);
+            case 26:
+                return getStringOrNull(wsPricing.getExtTax(), WS_PRICING_EXT_TAX);
+            case 27:
+                return getStringOrNull(wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT);
+            case 28:
+                return getStringOrNull(wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST);
+            case 29:
+                return getStringOrNull(wsPricing.getNetPaid(), WS_PRICING_NET_PAID);
+            case 30:
+                return getStringOrNull(wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX);
+            case 31:
+                return getStringOrNull(wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP);
+            case 32:
+                return getStringOrNull(wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case 33:
+                return getStringOrNull(wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + position);
+        }
+    }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, WEB_SALES)) {
+            case 0:
+                return isNullKey(wsSoldDateSk, WS_SOLD_DATE_SK);
+            case 1:
+                return isNullKey(wsSoldTimeSk, WS_SOLD_TIME_SK);
+            case 2:
+                return isNullKey(wsShipDateSk, WS_SHIP_DATE_SK);
+            case 3:
+                return isNullKey(wsItemSk, WS_ITEM_SK);
+            case 4:
+                return isNullKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK);
+            case 5:
+                return isNullKey(wsBillCdemoSk, WS_BILL_CDEMO_SK);
+            case 6:
+                return isNullKey(wsBillHdemoSk, WS_BILL_HDEMO_SK);
+            case 7:
+                return isNullKey(wsBillAddrSk, WS_BILL_ADDR_SK);
+            case 8:
+                return isNullKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK);
+            case 9:
+                return isNullKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK);
+            case 10:
+                return isNullKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK);
+            case 11:
+                return isNullKey(wsShipAddrSk, WS_SHIP_ADDR_SK);
+            case 12:
+                return isNullKey(wsWebPageSk, WS_WEB_PAGE_SK);
+            case 13:
+                return isNullKey(wsWebSiteSk, WS_WEB_SITE_SK);
+            case 14:
+                return isNullKey(wsShipModeSk, WS_SHIP_MODE_SK);
+            case 15:
+                return isNullKey(wsWarehouseSk, WS_WAREHOUSE_SK);
+            case 16:
+                return isNullKey(wsPromoSk, WS_PROMO_SK);
+            case 17:
+                return isNullKey(wsOrderNumber, WS_ORDER_NUMBER);
+            case 18:
+                return isNull(WS_PRICING_QUANTITY);
+            case 19:
+                return isNull(WS_PRICING_WHOLESALE_COST);
+            case 20:
+                return isNull(WS_PRICING_LIST_PRICE);
+            case 21:
+                return isNull(WS_PRICING_SALES_PRICE);
+            case 22:
+                return isNull(WS_PRICING_EXT_DISCOUNT_AMT);
+            case 23:
+                return isNull(WS_PRICING_EXT_SALES_PRICE);
+            case 24:
+                return isNull(WS_PRICING_EXT_WHOLESALE_COST);
+            case 25:
+                return isNull(WS_PRICING_EXT_LIST_PRICE);
+            case 26:
+                return isNull(WS_PRICING_EXT_TAX);
+            case 27:
+                return isNull(WS_PRICING_COUPON_AMT);
+            case 28:
+                return isNull(WS_PRICING_EXT_SHIP_COST);
+            case 29:
+                return isNull(WS_PRICING_NET_PAID);
+            case 30:
+                return isNull(WS_PRICING_NET_PAID_INC_TAX);
+            case 31:
+                return isNull(WS_PRICING_NET_PAID_INC_SHIP);
+            case 32:
+                return isNull(WS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case 33:
+                return isNull(WS_PRICING_NET_PROFIT);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, WEB_SALES)) {
+            case 0:
+                return wsSoldDateSk;
+            case 1:
+                return wsSoldTimeSk;
+            case 2:
+                return wsShipDateSk;
+            case 3:
+                return wsItemSk;
+            case 4:
+                return wsBillCustomerSk;
+            case 5:
+                return wsBillCdemoSk;
+            case 6:
+                return wsBillHdemoSk;
+            case 7:
+                return wsBillAddrSk;
+            case 8:
+                return wsShipCustomerSk;
+            case 9:
+                return wsShipCdemoSk;
+            case 10:
+                return wsShipHdemoSk;
+            case 11:
+                return wsShipAddrSk;
+            case 12:
+                return wsWebPageSk;
+            case 13:
+                return wsWebSiteSk;
+            case 14:
+                return wsShipModeSk;
+            case 15:
+                return wsWarehouseSk;
+            case 16:
+                return wsPromoSk;
+            case 17:
+                return wsOrderNumber;
+            case 18:
+                return wsPricing.getQuantity();
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, WEB_SALES)) {
+            case 19:
+                return toUnscaled(wsPricing.getWholesaleCost(), column);
+            case 20:
+                return toUnscaled(wsPricing.getListPrice(), column);
+            case 21:
+                return toUnscaled(wsPricing.getSalesPrice(), column);
+            case 22:
+                return toUnscaled(wsPricing.getExtDiscountAmount(), column);
+            case 23:
+                return toUnscaled(wsPricing.getExtSalesPrice(), column);
+            case 24:
+                return toUnscaled(wsPricing.getExtWholesaleCost(), column);
+            case 25:
+                return toUnscaled(wsPricing.getExtListPrice(), column);
+            case 26:
+                return toUnscaled(wsPricing.getExtTax(), column);
+            case 27:
+                return toUnscaled(wsPricing.getCouponAmount(), column);
+            case 28:
+                return toUnscaled(wsPricing.getExtShipCost(), column);
+            case 29:
+                return toUnscaled(wsPricing.getNetPaid(), column);
+            case 30:
+                return toUnscaled(wsPricing.getNetPaidIncludingTax(), column);
+            case 31:
+                return toUnscaled(wsPricing.getNetPaidIncludingShipping(), column);
+            case 32:
+                return toUnscaled(wsPricing.getNetPaidIncludingShippingAndTax(), column);
+            case 33:
+                return toUnscaled(wsPricing.getNetProfit(), column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
     }
 }
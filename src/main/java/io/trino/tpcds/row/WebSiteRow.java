@@ -14,12 +14,14 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static io.trino.tpcds.Table.WEB_SITE;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_CITY;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTY;
@@ -203,4 +205,110 @@ public class WebSiteRow
                 getStringOrNull(webAddress.getGmtOffset(), WEB_ADDRESS_GMT_OFFSET),
                 getStringOrNull(webTaxPercentage, WEB_TAX_PERCENTAGE));
     }
+
+    @Override
+    public boolean isNull(Column column)
+    {
+        switch (getPosition(column, WEB_SITE)) {
+            case 0:
+                return isNullKey(webSiteSk, WEB_SITE_SK);
+            case 1:
+                return isNull(WEB_SITE_ID);
+            case 2:
+                return isNullDate(webRecStartDateId, WEB_REC_START_DATE_ID);
+            case 3:
+                return isNullDate(webRecEndDateId, WEB_REC_END_DATE_ID);
+            case 4:
+                return isNull(WEB_NAME);
+            case 5:
+                return isNullKey(webOpenDate, WEB_OPEN_DATE);
+            case 6:
+                return isNullKey(webCloseDate, WEB_CLOSE_DATE);
+            case 7:
+                return isNull(WEB_CLASS);
+            case 8:
+                return isNull(WEB_MANAGER);
+            case 9:
+                return isNull(WEB_MARKET_ID);
+            case 10:
+                return isNull(WEB_MARKET_CLASS);
+            case 11:
+                return isNull(WEB_MARKET_DESC);
+            case 12:
+                return isNull(WEB_MARKET_MANAGER);
+            case 13:
+                return isNull(WEB_COMPANY_ID);
+            case 14:
+                return isNull(WEB_COMPANY_NAME);
+            case 15:
+                return isNull(WEB_ADDRESS_STREET_NUM);
+            case 16:
+                return isNull(WEB_ADDRESS_STREET_NAME1);
+            case 17:
+                return isNull(WEB_ADDRESS_STREET_TYPE);
+            case 18:
+                return isNull(WEB_ADDRESS_SUITE_NUM);
+            case 19:
+                return isNull(WEB_ADDRESS_CITY);
+            case 20:
+                return isNull(WEB_ADDRESS_COUNTY);
+            case 21:
+                return isNull(WEB_ADDRESS_STATE);
+            case 22:
+                return isNull(WEB_ADDRESS_ZIP);
+            case 23:
+                return isNull(WEB_ADDRESS_COUNTRY);
+            case 24:
+                return isNull(WEB_ADDRESS_GMT_OFFSET);
+            case 25:
+                return isNull(WEB_TAX_PERCENTAGE);
+            default:
+                throw new IllegalArgumentException("Invalid column position: " + column.getPosition());
+        }
+    }
+
+    @Override
+    public long getLong(Column column)
+    {
+        switch (getPosition(column, WEB_SITE)) {
+            case 0:
+                return webSiteSk;
+            case 5:
+                return webOpenDate;
+            case 6:
+                return webCloseDate;
+            case 9:
+                return webMarketId;
+            case 13:
+                return webCompanyId;
+            default:
+                throw notOfType(column, "an integer");
+        }
+    }
+
+    @Override
+    public long getDecimalUnscaled(Column column)
+    {
+        switch (getPosition(column, WEB_SITE)) {
+            case 24:
+                return toUnscaled(webAddress.getGmtOffset(), column);
+            case 25:
+                return toUnscaled(webTaxPercentage, column);
+            default:
+                throw notOfType(column, "a decimal");
+        }
+    }
+
+    @Override
+    public long getJulianDate(Column column)
+    {
+        switch (getPosition(column, WEB_SITE)) {
+            case 2:
+                return webRecStartDateId;
+            case 3:
+                return webRecEndDateId;
+            default:
+                throw notOfType(column, "a date");
+        }
+    }
 }
@@ -20,8 +20,6 @@ import io.trino.tpcds.generator.GeneratorColumn;
 import io.trino.tpcds.random.RandomNumberStream;
 import io.trino.tpcds.random.RandomNumberStreamImpl;
 
-import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
-
 public abstract class AbstractRowGenerator
         implements RowGenerator
 {
@@ -39,9 +37,14 @@ public abstract class AbstractRowGenerator
     @Override
     public void consumeRemainingSeedsForRow()
     {
+        if (ColumnProfiler.isEnabled()) {
+            randomNumberStreamMap.forEach((column, stream) -> ColumnProfiler.addDraws(column, stream.getSeedsUsed()));
+        }
         for (RandomNumberStream randomNumberStream : randomNumberStreamMap.values()) {
-            while (randomNumberStream.getSeedsUsed() < randomNumberStream.getSeedsPerRow()) {
-                generateUniformRandomInt(1, 100, randomNumberStream);
+            // equivalent to drawing the remaining seeds one at a time
+            int remainingSeeds = randomNumberStream.getSeedsPerRow() - randomNumberStream.getSeedsUsed();
+            if (remainingSeeds > 0) {
+                randomNumberStream.skipSeeds(remainingSeeds);
             }
             randomNumberStream.resetSeedsUsed();
         }
@@ -56,6 +59,9 @@ public abstract class AbstractRowGenerator
 
     public RandomNumberStream getRandomNumberStream(GeneratorColumn column)
     {
+        if (ColumnProfiler.isEnabled()) {
+            ColumnProfiler.startSection(column);
+        }
         return randomNumberStreamMap.get(column);
     }
 }
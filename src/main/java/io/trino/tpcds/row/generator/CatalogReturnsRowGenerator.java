@@ -14,7 +14,6 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.row.CatalogReturnsRow;
@@ -47,7 +46,6 @@ import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_SHIP_MOD
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WAREHOUSE_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class CatalogReturnsRowGenerator
         extends AbstractRowGenerator
@@ -65,13 +63,7 @@ public class CatalogReturnsRowGenerator
         // The catalog returns table is a child of the catalog_sales table because you can only return things that have
         // already been purchased.  This method should only get called if we are generating the catalog_returns table
         // in isolation. Otherwise catalog_returns is generated during the generation of the catalog_sales table
-        RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
-        if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
-        }
+        return ((CatalogSalesRowGenerator) parentRowGenerator).generateReturnOnly(rowNumber, session, this);
     }
 
     public TableRow generateRow(Session session, CatalogSalesRow salesRow)
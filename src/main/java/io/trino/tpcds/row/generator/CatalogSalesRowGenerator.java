@@ -14,6 +14,7 @@
 
 package io.trino.tpcds.row.generator;
 
+import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Parallel.DateNextIndexPair;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
@@ -65,6 +66,7 @@ import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_SOLD_ITEM_
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_SOLD_TIME_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_WAREHOUSE_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static io.trino.tpcds.type.Pricing.SALES_PRICING_SEEDS;
 import static io.trino.tpcds.type.Pricing.generatePricingForSalesTable;
 
 public class CatalogSalesRowGenerator
@@ -99,7 +101,7 @@ public class CatalogSalesRowGenerator
         int itemCount = (int) session.getScaling().getIdCount(ITEM);
         if (itemPermutation == null) {
             itemPermutation = makePermutation(itemCount, getRandomNumberStream(CS_PERMUTE));
-            DateNextIndexPair pair = skipDaysUntilFirstRowOfChunk(CATALOG_SALES, session);
+            DateNextIndexPair pair = skipDaysUntilFirstRowOfChunk(CATALOG_SALES, rowNumber, session);
             julianDate = pair.getJulianDate();
             nextDateIndex = pair.getNextDateIndex();
         }
@@ -170,6 +172,73 @@ public class CatalogSalesRowGenerator
         return new RowGeneratorResult(generatedRows, isLastRowInOrder());
     }
 
+    // Used when catalog_returns is generated on its own. Only the parts of the sale that a return depends on are
+    // generated. The streams of the other columns are not drawn from at all: they are used at most seedsPerRow
+    // times per order, so consumeRemainingSeedsForRow leaves them exactly where a full generation would.
+    public RowGeneratorResult generateReturnOnly(long rowNumber, Session session, CatalogReturnsRowGenerator returnsRowGenerator)
+    {
+        int itemCount = (int) session.getScaling().getIdCount(ITEM);
+        if (itemPermutation == null) {
+            itemPermutation = makePermutation(itemCount, getRandomNumberStream(CS_PERMUTE));
+            DateNextIndexPair pair = skipDaysUntilFirstRowOfChunk(CATALOG_SALES, rowNumber, session);
+            julianDate = pair.getJulianDate();
+            nextDateIndex = pair.getNextDateIndex();
+        }
+
+        if (remainingLineItems == 0) {
+            orderInfo = generateOrderInfo(rowNumber, session);
+            ticketItemBase = generateUniformRandomInt(1, itemCount, getRandomNumberStream(CS_SOLD_ITEM_SK));
+            remainingLineItems = generateUniformRandomInt(4, 14, getRandomNumberStream(CS_ORDER_NUMBER));
+        }
+
+        int shippingLag = generateUniformRandomInt(CS_MIN_SHIP_DELAY, CS_MAX_SHIP_DELAY, getRandomNumberStream(CS_SHIP_DATE_SK));
+        long csShipDateSk = orderInfo.getCsSoldDateSk() == -1 ? -1 : orderInfo.getCsSoldDateSk() + shippingLag;
+
+        if (++ticketItemBase > itemCount) {
+            ticketItemBase = 1;
+        }
+
+        // the number of random numbers used for the catalog page depends on the date, so it is generated for every line item
+        Scaling scaling = session.getScaling();
+        long csCatalogPageSk = (orderInfo.getCsSoldDateSk() == -1) ? -1 : generateJoinKey(CS_CATALOG_PAGE_SK, getRandomNumberStream(CS_CATALOG_PAGE_SK), CATALOG_PAGE, orderInfo.getCsSoldDateSk(), scaling);
+
+        List<TableRow> generatedRows;
+        int randomInt = generateUniformRandomInt(0, 99, getRandomNumberStream(CR_IS_RETURNED));
+        if (randomInt < CatalogReturnsRowGenerator.RETURN_PERCENT) {
+            long csSoldItemSk = matchSurrogateKey(getPermutationEntry(itemPermutation, ticketItemBase), orderInfo.getCsSoldDateSk(), ITEM, scaling);
+            Pricing csPricing = generatePricingForSalesTable(CS_PRICING, getRandomNumberStream(CS_PRICING));
+            CatalogSalesRow catalogSalesRow = new CatalogSalesRow(orderInfo.getCsSoldDateSk(),
+                    orderInfo.getCsSoldTimeSk(),
+                    csShipDateSk,
+                    orderInfo.getCsBillCustomerSk(),
+                    orderInfo.getCsBillCdemoSk(),
+                    orderInfo.getCsBillHdemoSk(),
+                    orderInfo.getCsBillAddrSk(),
+                    orderInfo.getCsShipCustomerSk(),
+                    orderInfo.getCsShipCdemoSk(),
+                    orderInfo.getCsShipHdemoSk(),
+                    orderInfo.getCsShipAddrSk(),
+                    orderInfo.getCsCallCenterSk(),
+                    csCatalogPageSk,
+                    0,
+                    0,
+                    csSoldItemSk,
+                    0,
+                    orderInfo.getCsOrderNumber(),
+                    csPricing,
+                    0);
+            generatedRows = ImmutableList.of(returnsRowGenerator.generateRow(session, catalogSalesRow));
+        }
+        else {
+            // the pricing stream is used by every line item, so it has to be moved past this one
+            getRandomNumberStream(CS_PRICING).skipSeeds(SALES_PRICING_SEEDS);
+            generatedRows = ImmutableList.of();
+        }
+
+        remainingLineItems--;
+        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+    }
+
     private boolean isLastRowInOrder()
     {
         return remainingLineItems == 0;
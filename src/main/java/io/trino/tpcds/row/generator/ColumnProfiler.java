@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.row.generator;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.generator.GeneratorColumn;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+// Attributes the time of the row generators to the GeneratorColumn whose random number stream was asked for last.
+// Every generator asks for the stream of a column before generating its value, so the time from one request to the
+// next is, roughly, the cost of the value of the first column, including the text, pricing or address it is made
+// from. The sections end when the generator returns the row, so rendering the values is not included. The draws
+// are the seeds used from the stream of each column, not counting those skipped at the end of a row.
+//
+// It is off unless enabled before the generation starts, and then costs a static field read per stream request
+public final class ColumnProfiler
+{
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+    private static boolean enabled;
+    private static final List<ColumnProfiler> profilers = new ArrayList<>();
+    private static final ThreadLocal<ColumnProfiler> threadProfiler = ThreadLocal.withInitial(() -> {
+        ColumnProfiler profiler = new ColumnProfiler();
+        synchronized (profilers) {
+            profilers.add(profiler);
+        }
+        return profiler;
+    });
+
+    // the costs of the columns generated by this thread
+    private final Map<GeneratorColumn, ColumnCost> costs = new HashMap<>();
+    private ColumnCost current;
+    private long sectionStartNanos;
+
+    private ColumnProfiler() {}
+
+    public static void enable()
+    {
+        enabled = true;
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    static void startSection(GeneratorColumn column)
+    {
+        threadProfiler.get().switchTo(column);
+    }
+
+    // ends the section of the column whose stream was asked for last, e.g. when the row is complete
+    public static void endSection()
+    {
+        if (enabled) {
+            threadProfiler.get().switchTo(null);
+        }
+    }
+
+    static void addDraws(GeneratorColumn column, int draws)
+    {
+        threadProfiler.get().getCost(column).draws += draws;
+    }
+
+    private void switchTo(GeneratorColumn column)
+    {
+        long now = System.nanoTime();
+        if (current != null) {
+            current.nanos += now - sectionStartNanos;
+        }
+        current = column != null ? getCost(column) : null;
+        if (current != null) {
+            current.sections++;
+        }
+        sectionStartNanos = now;
+    }
+
+    private ColumnCost getCost(GeneratorColumn column)
+    {
+        return costs.computeIfAbsent(column, key -> new ColumnCost());
+    }
+
+    // a table per Table of its columns, the most expensive first, of the threads that have finished
+    public static String getReport()
+    {
+        Map<Table, Map<GeneratorColumn, ColumnCost>> tables = new EnumMap<>(Table.class);
+        synchronized (profilers) {
+            for (ColumnProfiler profiler : profilers) {
+                for (Map.Entry<GeneratorColumn, ColumnCost> entry : profiler.costs.entrySet()) {
+                    ColumnCost total = tables.computeIfAbsent(entry.getKey().getTable(), table -> new HashMap<>())
+                            .computeIfAbsent(entry.getKey(), column -> new ColumnCost());
+                    total.nanos += entry.getValue().nanos;
+                    total.sections += entry.getValue().sections;
+                    total.draws += entry.getValue().draws;
+                }
+            }
+        }
+
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<Table, Map<GeneratorColumn, ColumnCost>> table : tables.entrySet()) {
+            long tableNanos = table.getValue().values().stream().mapToLong(cost -> cost.nanos).sum();
+            report.append(format("%s: %.1f ms%n", table.getKey().getName(), tableNanos / NANOS_PER_MILLISECOND));
+            report.append(format("  %-32s %12s %8s %14s %14s%n", "column", "ms", "%", "draws", "sections"));
+            List<Map.Entry<GeneratorColumn, ColumnCost>> columns = new ArrayList<>(table.getValue().entrySet());
+            columns.sort(Comparator.comparingLong((Map.Entry<GeneratorColumn, ColumnCost> entry) -> entry.getValue().nanos).reversed());
+            for (Map.Entry<GeneratorColumn, ColumnCost> column : columns) {
+                ColumnCost cost = column.getValue();
+                if (cost.sections == 0 && cost.draws == 0) {
+                    // a column that is derived from others, or never generated
+                    continue;
+                }
+                report.append(format("  %-32s %12.1f %8.1f %14d %14d%n",
+                        column.getKey(),
+                        cost.nanos / NANOS_PER_MILLISECOND,
+                        100.0 * cost.nanos / Math.max(1, tableNanos),
+                        cost.draws,
+                        cost.sections));
+            }
+        }
+        return report.toString();
+    }
+
+    private static class ColumnCost
+    {
+        private long nanos;
+        private long sections;
+        private long draws;
+    }
+}
@@ -14,7 +14,6 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.row.StoreReturnsRow;
@@ -45,7 +44,6 @@ import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_STORE_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET_NUMBER;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class StoreReturnsRowGenerator
         extends AbstractRowGenerator
@@ -63,13 +61,7 @@ public class StoreReturnsRowGenerator
         // The store_returns table is a child of the store_sales table because you can only return things that have
         // already been purchased.  This method should only get called if we are generating the store_returns table
         // in isolation. Otherwise store_returns is generated during the generation of the store_sales table
-        RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
-        if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
-        }
+        return ((StoreSalesRowGenerator) parentRowGenerator).generateReturnOnly(rowNumber, session, this);
     }
 
     public TableRow generateRow(Session session, StoreSalesRow salesRow)
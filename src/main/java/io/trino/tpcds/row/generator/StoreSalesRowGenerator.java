@@ -14,6 +14,7 @@
 
 package io.trino.tpcds.row.generator;
 
+import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.row.StoreSalesRow;
@@ -53,6 +54,7 @@ import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_SOLD_STORE_S
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_SOLD_TIME_SK;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_TICKET_NUMBER;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static io.trino.tpcds.type.Pricing.SALES_PRICING_SEEDS;
 import static io.trino.tpcds.type.Pricing.generatePricingForSalesTable;
 
 public class StoreSalesRowGenerator
@@ -128,6 +130,65 @@ public class StoreSalesRowGenerator
         return new RowGeneratorResult(generatedRows, isLastRowInOrder());
     }
 
+    // Used when store_returns is generated on its own. Only the parts of the sale that a return depends on are
+    // generated. The streams of the other columns are not drawn from at all: they are used at most seedsPerRow
+    // times per order, so consumeRemainingSeedsForRow leaves them exactly where a full generation would.
+    public RowGeneratorResult generateReturnOnly(long rowNumber, Session session, StoreReturnsRowGenerator returnsRowGenerator)
+    {
+        int itemCount = (int) session.getScaling().getIdCount(ITEM);
+        if (itemPermutation == null) {
+            itemPermutation = makePermutation(itemCount, getRandomNumberStream(SS_PERMUTATION));
+        }
+
+        Scaling scaling = session.getScaling();
+        if (remainingLineItems == 0) {
+            orderInfo = generateOrderInfoForReturns(rowNumber, session);
+            remainingLineItems = generateUniformRandomInt(8, 16, getRandomNumberStream(SS_TICKET_NUMBER));
+            itemIndex = generateUniformRandomInt(1, (int) scaling.getIdCount(ITEM), getRandomNumberStream(SS_SOLD_ITEM_SK));
+        }
+
+        if (++itemIndex > itemCount) {
+            itemIndex = 1;
+        }
+
+        List<TableRow> generatedRows;
+        int randomInt = generateUniformRandomInt(0, 99, getRandomNumberStream(SR_IS_RETURNED));
+        if (randomInt < SR_RETURN_PCT) {
+            long ssSoldItemSk = matchSurrogateKey(getPermutationEntry(itemPermutation, itemIndex), orderInfo.getSsSoldDateSk(), ITEM, scaling);
+            Pricing ssPricing = generatePricingForSalesTable(SS_PRICING, getRandomNumberStream(SS_PRICING));
+            StoreSalesRow storeSalesRow = new StoreSalesRow(0,
+                    orderInfo.getSsSoldDateSk(),
+                    orderInfo.getSsSoldTimeSk(),
+                    ssSoldItemSk,
+                    orderInfo.getSsSoldCustomerSk(),
+                    orderInfo.getSsSoldCdemoSk(),
+                    orderInfo.getSsSoldHdemoSk(),
+                    orderInfo.getSsSoldAddrSk(),
+                    orderInfo.getSsSoldStoreSk(),
+                    0,
+                    orderInfo.getSsTicketNumber(),
+                    ssPricing);
+            generatedRows = ImmutableList.of(returnsRowGenerator.generateRow(session, storeSalesRow));
+        }
+        else {
+            // the pricing stream is used by every line item, so it has to be moved past this one
+            getRandomNumberStream(SS_PRICING).skipSeeds(SALES_PRICING_SEEDS);
+            generatedRows = ImmutableList.of();
+        }
+
+        remainingLineItems--;
+        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+    }
+
+    private OrderInfo generateOrderInfoForReturns(long rowNumber, Session session)
+    {
+        Scaling scaling = session.getScaling();
+
+        long ssSoldDateSk = generateJoinKey(SS_SOLD_DATE_SK, getRandomNumberStream(SS_SOLD_DATE_SK), DATE_DIM, 1, scaling);
+        long ssSoldCustomerSk = generateJoinKey(SS_SOLD_CUSTOMER_SK, getRandomNumberStream(SS_SOLD_CUSTOMER_SK), CUSTOMER, 1, scaling);
+        return new OrderInfo(0, 0, ssSoldDateSk, ssSoldCustomerSk, 0, 0, 0, rowNumber);
+    }
+
     public OrderInfo generateOrderInfo(long rowNumber, Session session)
     {
         // move to a new date if the row number is ahead of the nextDateIndex
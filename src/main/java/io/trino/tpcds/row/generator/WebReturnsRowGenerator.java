@@ -14,7 +14,6 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.row.WebReturnsRow;
@@ -43,7 +42,6 @@ import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNED_TIM
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNING_CUSTOMER_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class WebReturnsRowGenerator
         extends AbstractRowGenerator
@@ -56,13 +54,7 @@ public class WebReturnsRowGenerator
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
-        RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
-        if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
-        }
+        return ((WebSalesRowGenerator) parentRowGenerator).generateReturnOnly(rowNumber, session, this);
     }
 
     public WebReturnsRow generateRow(Session session, WebSalesRow salesRow)
@@ -14,6 +14,7 @@
 
 package io.trino.tpcds.row.generator;
 
+import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.row.TableRow;
@@ -64,6 +65,7 @@ import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_WAREHOUSE_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_WEB_PAGE_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_WEB_SITE_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static io.trino.tpcds.type.Pricing.SALES_PRICING_SEEDS;
 import static io.trino.tpcds.type.Pricing.generatePricingForSalesTable;
 
 public class WebSalesRowGenerator
@@ -157,6 +159,70 @@ public class WebSalesRowGenerator
         return new RowGeneratorResult(generatedRows, remainingLineItems == 0);
     }
 
+    // Used when web_returns is generated on its own. Only the parts of the sale that a return depends on are
+    // generated. The streams of the other columns are not drawn from at all: they are used at most seedsPerRow
+    // times per order, so consumeRemainingSeedsForRow leaves them exactly where a full generation would.
+    public RowGeneratorResult generateReturnOnly(long rowNumber, Session session, WebReturnsRowGenerator returnsRowGenerator)
+    {
+        Scaling scaling = session.getScaling();
+        int itemCount = (int) scaling.getIdCount(ITEM);
+        if (itemPermutation == null) {
+            itemPermutation = makePermutation(itemCount, getRandomNumberStream(WS_PERMUTATION));
+        }
+
+        if (remainingLineItems == 0) {
+            orderInfo = generateOrderInfo(rowNumber, session);
+            itemIndex = generateUniformRandomInt(1, itemCount, getRandomNumberStream(WS_ITEM_SK));
+            remainingLineItems = generateUniformRandomInt(8, 16, getRandomNumberStream(WS_ORDER_NUMBER));
+        }
+
+        int shipLag = generateUniformRandomInt(1, 120, getRandomNumberStream(WS_SHIP_DATE_SK));
+        long wsShipDateSk = orderInfo.wsSoldDateSk + shipLag;
+
+        if (++itemIndex > itemCount) {
+            itemIndex = 1;
+        }
+
+        // the number of random numbers used for the web page depends on the date, so it is generated for every line item
+        long wsWebPageSk = generateJoinKey(WS_WEB_PAGE_SK, getRandomNumberStream(WS_WEB_PAGE_SK), WEB_PAGE, orderInfo.wsSoldDateSk, scaling);
+
+        List<TableRow> generatedRows;
+        int randomInt = generateUniformRandomInt(0, 99, getRandomNumberStream(WR_IS_RETURNED));
+        if (randomInt < RETURN_PERCENTAGE) {
+            long wsItemSk = matchSurrogateKey(getPermutationEntry(itemPermutation, itemIndex), orderInfo.wsSoldDateSk, ITEM, scaling);
+            Pricing wsPricing = generatePricingForSalesTable(WS_PRICING, getRandomNumberStream(WS_PRICING));
+            WebSalesRow salesRow = new WebSalesRow(0,
+                    orderInfo.wsSoldDateSk,
+                    orderInfo.wsSoldTimeSk,
+                    wsShipDateSk,
+                    wsItemSk,
+                    orderInfo.wsBillCustomerSk,
+                    orderInfo.wsBillCdemoSk,
+                    orderInfo.wsBillHdemoSk,
+                    orderInfo.wsBillAddrSk,
+                    orderInfo.wsShipCustomerSk,
+                    orderInfo.wsShipCdemoSk,
+                    orderInfo.wsShipHdemoSk,
+                    orderInfo.wsShipAddrSk,
+                    wsWebPageSk,
+                    0,
+                    0,
+                    0,
+                    0,
+                    orderInfo.wsOrderNumber,
+                    wsPricing);
+            generatedRows = ImmutableList.of(returnsRowGenerator.generateRow(session, salesRow));
+        }
+        else {
+            // the pricing stream is used by every line item, so it has to be moved past this one
+            getRandomNumberStream(WS_PRICING).skipSeeds(SALES_PRICING_SEEDS);
+            generatedRows = ImmutableList.of();
+        }
+
+        remainingLineItems--;
+        return new RowGeneratorResult(generatedRows, remainingLineItems == 0);
+    }
+
     private OrderInfo generateOrderInfo(long rowNumber, Session session)
     {
         Scaling scaling = session.getScaling();
@@ -46,6 +46,8 @@ public class Pricing
     public static final int QUANTITY_MIN = 1;
     public static final Decimal MARKUP_MIN = new Decimal(0, 2);
     public static final Decimal DISCOUNT_MIN = new Decimal(0, 2);
+    // the number of random numbers drawn by generatePricingForSalesTable
+    public static final int SALES_PRICING_SEEDS = 8;
 
     // TODO: add Limits for other columns as they are relevant
     private static final Map<GeneratorColumn, Limits> LIMITS_PER_COLUMN = ImmutableMap.of(